@@ -0,0 +1,93 @@
+package com.avispl.symphony.dal.communicator.netgear;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Regex/stream based telnet response extractors, as they were implemented in {@link NetGearNASCommunicator} before
+ * {@link NetGearResponseParser}. Kept as a benchmark baseline only.
+ */
+final class LegacyResponseParser {
+
+    private LegacyResponseParser() {
+    }
+
+    static void extractEnvironmentStatus(Map<String, String> environmentStatus, String environmentData){
+        Map<String, String> temp = new HashMap<>();
+        Map<String, String> fans = new HashMap<>();
+        Map<String, String> power = new HashMap<>();
+
+        int mode = 0;
+        for (String s : environmentData.split("\n")) {
+            if(s.startsWith("Temperature Sensors:")){
+                mode = 1;
+            }
+            if(s.startsWith("Fans:")){
+                mode = 2;
+            }
+            if(s.startsWith("Power Modules:")){
+                mode = 3;
+            }
+
+            if(Character.isDigit(s.charAt(0))){
+                String[] sensorLine = s.replaceAll("\\r", "").split("\\s{2,}");
+                switch (mode){
+                    case 1:
+                        temp.put("Temperature Sensors#Temp. Sensor " + sensorLine[1] + ", " + sensorLine[2], sensorLine[3] + ", " + sensorLine[4]);
+                        break;
+                    case 2:
+                        fans.put("Fans#Fan " + sensorLine[1] + ", " + sensorLine[2], sensorLine[6] + ", " + sensorLine[4] + "rps / " + sensorLine[5]);
+                        break;
+                    case 3:
+                        power.put("Power Modules#Power supply " + sensorLine[1] + ", " + sensorLine[2], sensorLine[3] + ", " + sensorLine[4]);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        environmentStatus.putAll(temp);
+        environmentStatus.putAll(fans);
+        environmentStatus.putAll(power);
+    }
+
+    static void extractPortStatus(Map<String, String> ports, String portsData){
+        Arrays.stream(portsData.split("\r")).forEach(portDataLine -> {
+            if(portDataLine.matches("^(\n)*\\d\\/\\d\\/\\d.+?")) {
+                String[] portDataArray = portDataLine.split("  ");
+                List<String> portDataList = Arrays.stream(portDataArray).filter(portColumnData -> !portColumnData.isEmpty()).collect(Collectors.toList());
+
+                ports.put(portDataList.get(0).replace("\n", ""), String.valueOf(portDataLine.contains(" Up ")));
+            }
+        });
+    }
+
+    static void extractPortStatistics(Map<String, String> ports, String portsData){
+        Arrays.stream(portsData.split("\r")).forEach(portDataLine -> {
+            if(portDataLine.matches("^(\n)*\\d\\/\\d\\/\\d.+?")) {
+                String[] portDataArray = portDataLine.split("  ");
+                List<String> portDataList = Arrays.stream(portDataArray).filter(portColumnData -> !portColumnData.isEmpty()).collect(Collectors.toList());
+                ports.put("Ports Packets Statistics#Port " + portDataList.get(0) + " Received" , portDataList.get(4));
+                ports.put("Ports Packets Statistics#Port " + portDataList.get(0) + " Transmitted" , portDataList.get(3));
+            }
+        });
+    }
+
+    static Map<String, String> extractTelnetResponseProperties(String response, String separatorPattern){
+        String[] lines = response.split("\n");
+        LinkedHashMap<String, String> responseMap = new LinkedHashMap<>();
+        Arrays.stream(lines).forEach(s -> {
+            if(Pattern.compile(separatorPattern).matcher(s).find()) {
+                String[] line = s.split(separatorPattern);
+                responseMap.put(line[0], line[1].trim().replaceAll("\t", ""));
+            }
+        });
+        return responseMap;
+    }
+}
@@ -0,0 +1,116 @@
+package com.avispl.symphony.dal.communicator.netgear;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link LegacyResponseParser} and {@link NetGearResponseParser} on recorded M4300 responses,
+ * replicated for stacks of 1 to 8 units.
+ * Run with "mvn -Pjmh test-compile exec:exec", use "-prof gc" in jmh.args to see the allocation rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseParserBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public int stackSize;
+
+    private String ipManagement;
+    private String environment;
+    private String portStatus;
+    private String interfaces;
+    private String poePortStatus;
+
+    @Setup
+    public void setup() {
+        Map<String, String> transcripts = TelnetTranscripts.stack(TelnetTranscripts.load(TelnetTranscripts.M4300_28G_POE), stackSize);
+        ipManagement = response(transcripts, "show ip management");
+        environment = response(transcripts, "show environment");
+        portStatus = response(transcripts, "show port status all | exclude lag");
+        interfaces = response(transcripts, "show interface ethernet all | exclude lag");
+        poePortStatus = response(transcripts, "show poe port all");
+    }
+
+    @Benchmark
+    public Map<String, String> legacyProperties() {
+        return LegacyResponseParser.extractTelnetResponseProperties(ipManagement, "\\.{2,}");
+    }
+
+    @Benchmark
+    public Map<String, String> properties() {
+        Map<String, String> result = new LinkedHashMap<>();
+        NetGearResponseParser.parseDotLeaderProperties(ipManagement, result);
+        return result;
+    }
+
+    @Benchmark
+    public Map<String, String> legacyEnvironmentStatus() {
+        Map<String, String> result = new HashMap<>();
+        LegacyResponseParser.extractEnvironmentStatus(result, environment);
+        return result;
+    }
+
+    @Benchmark
+    public Map<String, String> environmentStatus() {
+        Map<String, String> result = new HashMap<>();
+        NetGearResponseParser.parseEnvironmentStatus(environment, result);
+        return result;
+    }
+
+    @Benchmark
+    public Map<String, String> legacyPortStatus() {
+        Map<String, String> result = new HashMap<>();
+        LegacyResponseParser.extractPortStatus(result, portStatus);
+        return result;
+    }
+
+    @Benchmark
+    public Map<String, String> portStatus() {
+        Map<String, String> result = new HashMap<>();
+        NetGearResponseParser.parsePortStatus(portStatus, result);
+        return result;
+    }
+
+    @Benchmark
+    public Map<String, String> legacyPortStatistics() {
+        Map<String, String> result = new HashMap<>();
+        LegacyResponseParser.extractPortStatistics(result, interfaces);
+        return result;
+    }
+
+    @Benchmark
+    public Map<String, String> portStatistics() {
+        Map<String, String> result = new HashMap<>();
+        NetGearResponseParser.parsePortStatistics(interfaces, result);
+        return result;
+    }
+
+    @Benchmark
+    public Map<String, String> poePortStatus() {
+        Map<String, String> result = new HashMap<>();
+        NetGearResponseParser.parsePoePortStatus(poePortStatus, result);
+        return result;
+    }
+
+    private static String response(Map<String, String> transcripts, String command) {
+        return TelnetTranscripts.response(command, transcripts.get(command));
+    }
+}
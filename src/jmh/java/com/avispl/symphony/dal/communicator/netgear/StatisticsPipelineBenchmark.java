@@ -0,0 +1,83 @@
+package com.avispl.symphony.dal.communicator.netgear;
+
+import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the whole statistics pipeline: {@link NetGearNASCommunicator#getMultipleStatistics()} running against
+ * {@link RecordedTelnetServer}, for stacks of 1 to 8 M4300 units. Parsers are benchmarked separately by
+ * {@link ResponseParserBenchmark}. Sample time mode is used, so the p99 latency is reported along with the average.
+ * Run with "mvn -Pjmh test-compile exec:exec -Djmh.args=StatisticsPipelineBenchmark".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class StatisticsPipelineBenchmark {
+
+    private static final String HOSTNAME = "M4300-28G-PoE+";
+    private static final String LOGIN = "admin";
+    private static final String PASSWORD = "benchmark";
+
+    @Param({"1", "2", "4", "8"})
+    public int stackSize;
+
+    /**
+     * Emulated per-command switch latency, ms
+     */
+    @Param({"0", "20"})
+    public long commandLatency;
+
+    @Param({"false", "true"})
+    public boolean keepAliveSession;
+
+    @Param({"false", "true"})
+    public boolean streamingParse;
+
+    private RecordedTelnetServer server;
+    private NetGearNASCommunicator netGearCommunicator;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        Map<String, String> transcripts = TelnetTranscripts.stack(TelnetTranscripts.load(TelnetTranscripts.M4300_28G_POE), stackSize);
+        server = new RecordedTelnetServer(transcripts, HOSTNAME, LOGIN, PASSWORD);
+        server.setDefaultLatency(commandLatency);
+        netGearCommunicator = new NetGearNASCommunicator();
+        netGearCommunicator.setHost("127.0.0.1");
+        netGearCommunicator.setPort(server.getPort());
+        netGearCommunicator.setLogin(LOGIN);
+        netGearCommunicator.setPassword(PASSWORD);
+        netGearCommunicator.setKeepAliveSession(keepAliveSession);
+        netGearCommunicator.setStreamingParse(streamingParse);
+        netGearCommunicator.init();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        netGearCommunicator.destroy();
+        server.close();
+    }
+
+    @Benchmark
+    public List<Statistics> getMultipleStatistics() throws Exception {
+        return netGearCommunicator.getMultipleStatistics();
+    }
+}
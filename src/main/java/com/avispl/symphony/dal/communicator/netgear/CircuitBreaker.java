@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.netgear;
+
+/**
+ * Circuit breaker of the statistics polls. Is opened after a number of consecutive failed polls, so an
+ * unreachable switch isn't polled with the full command timeouts every cycle. Once the open period has passed,
+ * the breaker is half-open: a single poll is let through if the device passes a cheap reachability probe,
+ * its success closes the breaker, its failure opens the breaker for another period.
+ */
+final class CircuitBreaker {
+    private int consecutiveFailures;
+    private boolean open;
+    private long openedTimestamp;
+
+    /**
+     * Records a successful poll, closing the breaker
+     */
+    synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        open = false;
+    }
+
+    /**
+     * Records a failed poll or probe, (re)opening the breaker if the failures threshold is reached
+     *
+     * @param threshold number of consecutive failures that opens the breaker
+     * @return true if the breaker is open
+     */
+    synchronized boolean recordFailure(int threshold) {
+        consecutiveFailures++;
+        if (consecutiveFailures >= threshold) {
+            open = true;
+            openedTimestamp = System.currentTimeMillis();
+        }
+        return open;
+    }
+
+    /**
+     * Retrieves {@link #open}
+     *
+     * @return value of {@link #open}
+     */
+    synchronized boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Checks whether the open period has passed, so the device has to be probed
+     *
+     * @param openPeriod period (ms) the breaker stays open for
+     * @return true if the breaker is half-open
+     */
+    synchronized boolean isProbeDue(long openPeriod) {
+        return open && System.currentTimeMillis() - openedTimestamp >= openPeriod;
+    }
+
+    /**
+     * Retrieves {@link #openedTimestamp}
+     *
+     * @return time the breaker was opened last time
+     */
+    synchronized long getOpenedTimestamp() {
+        return openedTimestamp;
+    }
+}
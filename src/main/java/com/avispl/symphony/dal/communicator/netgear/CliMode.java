@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.netgear;
+
+/**
+ * NetGear CLI command modes, as they are reported by the CLI prompt, e.g.
+ * (M4300-28G-PoE+) >, (M4300-28G-PoE+) #, (M4300-28G-PoE+) (Config)#, (M4300-28G-PoE+) (Interface 1/0/1)#
+ */
+enum CliMode {
+    UNKNOWN, USER, PRIVILEGED, CONFIG, INTERFACE;
+
+    private static final String INTERFACE_PROMPT_PREFIX = "(Interface ";
+
+    /**
+     * Defines CLI mode based on the telnet response, which is expected to end with a CLI prompt.
+     *
+     * @param response telnet response to check
+     * @return {@link CliMode} that matches the prompt, or {@link #UNKNOWN} if the response does not end with a prompt
+     * (e.g. password prompt, pagination prompt or an incomplete response)
+     */
+    static CliMode fromResponse(String response) {
+        if (response.endsWith(">")) {
+            return USER;
+        }
+        if (!response.endsWith("#")) {
+            return UNKNOWN;
+        }
+        String prompt = response.substring(response.lastIndexOf('\n') + 1);
+        if (prompt.endsWith("(Config)#")) {
+            return CONFIG;
+        }
+        if (prompt.contains(INTERFACE_PROMPT_PREFIX)) {
+            return INTERFACE;
+        }
+        return PRIVILEGED;
+    }
+
+    /**
+     * Retrieves interface name from the interface configuration mode prompt,
+     * e.g. (M4300-28G-PoE+) (Interface 1/0/1)# would result in 1/0/1
+     *
+     * @param response telnet response ending with the interface configuration mode prompt
+     * @return interface name or null if the response doesn't end with the interface configuration prompt
+     */
+    static String interfaceName(String response) {
+        int interfaceIndex = response.lastIndexOf(INTERFACE_PROMPT_PREFIX);
+        int interfaceEndIndex = response.lastIndexOf(")#");
+        if (interfaceIndex < 0 || interfaceEndIndex < interfaceIndex) {
+            return null;
+        }
+        return response.substring(interfaceIndex + INTERFACE_PROMPT_PREFIX.length(), interfaceEndIndex);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.netgear;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tracks recent response latencies of the telnet commands and derives per command timeouts from them, so a
+ * command that normally takes 200ms doesn't wait for the full fixed timeout when the switch stops responding.
+ * Timeout is the 99th percentile of the last {@link #SAMPLES_COUNT} latencies, multiplied by a safety factor and
+ * limited by the fixed timeout. Latencies of the timed out commands are tracked as well, so the timeout grows
+ * back if it turns out to be too tight.
+ */
+final class CommandTimeoutTracker {
+    private static final int SAMPLES_COUNT = 64;
+    private static final int MIN_SAMPLES_COUNT = 5;
+
+    private final Map<String, Samples> samples = new HashMap<>();
+
+    /**
+     * Records the command latency
+     *
+     * @param command command name
+     * @param latency time (ms) between sending the command and receiving the complete response, or the timeout
+     */
+    synchronized void record(String command, long latency) {
+        samples.computeIfAbsent(command, name -> new Samples()).add(latency);
+    }
+
+    /**
+     * Calculates the command timeout
+     *
+     * @param command command name
+     * @param maxTimeout fixed timeout (ms), used until enough latencies are tracked for the command
+     * @param minTimeout lower limit of the timeout (ms)
+     * @param multiplier multiplier of the 99th percentile latency
+     * @return command timeout, ms
+     */
+    synchronized int timeout(String command, int maxTimeout, int minTimeout, double multiplier) {
+        Samples commandSamples = samples.get(command);
+        if (commandSamples == null || commandSamples.count < MIN_SAMPLES_COUNT) {
+            return maxTimeout;
+        }
+        long timeout = (long) Math.ceil(commandSamples.percentile(0.99) * multiplier);
+        return (int) Math.min(maxTimeout, Math.max(minTimeout, timeout));
+    }
+
+    /**
+     * Ring buffer of the latest latencies of a command
+     */
+    private static final class Samples {
+        private final long[] latencies = new long[SAMPLES_COUNT];
+        private int count;
+        private int next;
+
+        void add(long latency) {
+            latencies[next] = latency;
+            next = (next + 1) % SAMPLES_COUNT;
+            count = Math.min(count + 1, SAMPLES_COUNT);
+        }
+
+        long percentile(double percentile) {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted[(int) Math.ceil(count * percentile) - 1];
+        }
+    }
+}
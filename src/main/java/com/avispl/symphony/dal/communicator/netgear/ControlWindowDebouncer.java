@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.netgear;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the control window: the period during which control actions are applied to the switch, and statistics
+ * are not refreshed. The window is opened by a control action and closed once no control action has happened
+ * for the quiet period, so the controls coming in quick succession are stacked into a single window.
+ * A single scheduler thread is used for the whole lifetime of the adapter.
+ */
+final class ControlWindowDebouncer {
+    private final ScheduledExecutorService scheduler;
+    private long quietPeriod;
+    private volatile boolean active;
+    private int pendingControls;
+    private ScheduledFuture<?> closeTask;
+
+    /**
+     * Creates the debouncer with a daemon scheduler thread
+     *
+     * @param threadName name of the scheduler thread
+     * @param quietPeriod period (ms) without control actions, after which the window is closed
+     */
+    ControlWindowDebouncer(String threadName, long quietPeriod) {
+        this.quietPeriod = quietPeriod;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens the control window, or keeps it open if it's open already, cancelling the pending close.
+     * Has to be paired with {@link #controlFinished()}.
+     */
+    synchronized void controlStarted() {
+        if (closeTask != null) {
+            closeTask.cancel(false);
+            closeTask = null;
+        }
+        pendingControls++;
+        active = true;
+    }
+
+    /**
+     * Schedules closing the control window after the quiet period, if no other control action is in progress
+     */
+    synchronized void controlFinished() {
+        pendingControls = Math.max(0, pendingControls - 1);
+        if (pendingControls > 0 || scheduler.isShutdown()) {
+            return;
+        }
+        closeTask = scheduler.schedule(this::close, quietPeriod, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Checks whether the control window is open. Can be called without synchronization.
+     *
+     * @return true if a control action is in progress or has finished less than a quiet period ago
+     */
+    boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Sets {@link #quietPeriod} value
+     *
+     * @param quietPeriod new value of {@link #quietPeriod}
+     */
+    synchronized void setQuietPeriod(long quietPeriod) {
+        this.quietPeriod = quietPeriod;
+    }
+
+    /**
+     * Stops the scheduler thread, the window is closed immediately
+     */
+    synchronized void shutdown() {
+        scheduler.shutdownNow();
+        closeTask = null;
+        pendingControls = 0;
+        active = false;
+    }
+
+    private synchronized void close() {
+        if (pendingControls == 0) {
+            active = false;
+        }
+        closeTask = null;
+    }
+}
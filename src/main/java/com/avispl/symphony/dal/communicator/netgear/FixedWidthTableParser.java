@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.netgear;
+
+/**
+ * Single-pass parser of the fixed-width CLI tables, e.g.
+ * <pre>
+ * Intf      Admin    Priority  Class
+ * --------- -------- --------- -------------
+ * 1/0/1     Enable   High      Class4
+ * 1/0/3     Disable  Low
+ * </pre>
+ * Column offsets are taken from the dashed separator line under the table header, so the empty cells are kept in
+ * place and the values containing single spaces are not split. Every line after the separator is split by these
+ * offsets and passed to the {@link RowParser}, with the cells boundaries in the same format as
+ * {@link NetGearResponseParser#tokenize(String, int, int, int[])} produces. If a value crosses a column boundary -
+ * the row doesn't fit the offsets, and it is tokenized by the whitespaces instead.
+ * The parser keeps the column offsets of the last separator, so it has to be used for a single response only.
+ * Each separator line starts a new table.
+ */
+final class FixedWidthTableParser implements NetGearResponseParser.LineParser {
+    private static final int MAX_COLUMNS = 32;
+    private static final int MIN_SEPARATOR_LENGTH = 3;
+
+    /**
+     * Parser of a single table row
+     */
+    interface RowParser {
+        /**
+         * Parses a single table row
+         *
+         * @param text text that contains the row
+         * @param lineStart row start index
+         * @param lineEnd row end index (exclusive)
+         * @param columns array of cells start/end indexes, as pairs
+         * @param columnsCount number of cells in the row
+         */
+        void parseRow(String text, int lineStart, int lineEnd, int[] columns, int columnsCount);
+    }
+
+    private final RowParser rowParser;
+    private final int[] offsets = new int[MAX_COLUMNS];
+    private final int[] columns = new int[MAX_COLUMNS * 2];
+    private int offsetsCount;
+
+    /**
+     * Creates the parser
+     *
+     * @param rowParser parser to pass the table rows to
+     */
+    FixedWidthTableParser(RowParser rowParser) {
+        this.rowParser = rowParser;
+    }
+
+    @Override
+    public void parseLine(String text, int lineStart, int lineEnd) {
+        if (parseSeparator(text, lineStart, lineEnd) || offsetsCount == 0) {
+            return;
+        }
+        int columnsCount = split(text, lineStart, lineEnd);
+        if (columnsCount < 0) {
+            columnsCount = NetGearResponseParser.tokenize(text, lineStart, lineEnd, columns);
+        }
+        rowParser.parseRow(text, lineStart, lineEnd, columns, columnsCount);
+    }
+
+    /**
+     * Checks whether the line is a separator line, consisting of dashes and whitespaces only, and saves the
+     * offsets of the dash runs as the column offsets if it is
+     *
+     * @param text text that contains the line
+     * @param lineStart line start index
+     * @param lineEnd line end index (exclusive)
+     * @return true if the line is a separator line
+     */
+    private boolean parseSeparator(String text, int lineStart, int lineEnd) {
+        if (text.charAt(lineStart) != '-') {
+            return false;
+        }
+        int count = 0;
+        int runStart = -1;
+        for (int i = lineStart; i < lineEnd; i++) {
+            char c = text.charAt(i);
+            if (c == '-') {
+                if (runStart < 0) {
+                    runStart = i;
+                }
+            } else if (c == ' ' || c == '\t') {
+                if (runStart >= 0) {
+                    if (i - runStart < MIN_SEPARATOR_LENGTH || count == MAX_COLUMNS) {
+                        return false;
+                    }
+                    offsets[count++] = runStart - lineStart;
+                    runStart = -1;
+                }
+            } else {
+                return false;
+            }
+        }
+        if (runStart >= 0) {
+            if (lineEnd - runStart < MIN_SEPARATOR_LENGTH || count == MAX_COLUMNS) {
+                return false;
+            }
+            offsets[count++] = runStart - lineStart;
+        }
+        offsetsCount = count;
+        return true;
+    }
+
+    /**
+     * Splits the row by the column offsets, trimming the cells
+     *
+     * @param text text that contains the row
+     * @param lineStart row start index
+     * @param lineEnd row end index (exclusive)
+     * @return number of cells, or -1 if a value crosses a column boundary
+     */
+    private int split(String text, int lineStart, int lineEnd) {
+        int count = 0;
+        for (int i = 0; i < offsetsCount; i++) {
+            int cellStart = lineStart + offsets[i];
+            if (cellStart >= lineEnd) {
+                break;
+            }
+            if (i > 0 && !isWhitespace(text.charAt(cellStart - 1)) && !isWhitespace(text.charAt(cellStart))) {
+                return -1;
+            }
+            int cellEnd = i + 1 < offsetsCount ? Math.min(lineEnd, lineStart + offsets[i + 1]) : lineEnd;
+            while (cellStart < cellEnd && isWhitespace(text.charAt(cellStart))) {
+                cellStart++;
+            }
+            while (cellEnd > cellStart && isWhitespace(text.charAt(cellEnd - 1))) {
+                cellEnd--;
+            }
+            columns[count * 2] = cellStart;
+            columns[count * 2 + 1] = cellEnd;
+            count++;
+        }
+        return count;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t';
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.netgear;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Range of consecutive ports of the same unit/slot, configured with a single "interface 1/0/1-1/0/12" command.
+ */
+final class InterfaceRange {
+    private static final Comparator<int[]> PORT_ORDER = Comparator.<int[]>comparingInt(port -> port[0])
+            .thenComparingInt(port -> port[1]).thenComparingInt(port -> port[2]);
+
+    private final List<String> ports;
+
+    private InterfaceRange(List<String> ports) {
+        this.ports = Collections.unmodifiableList(ports);
+    }
+
+    /**
+     * Groups ports into ranges of consecutive ports. Ports that are not in unit/slot/port format are
+     * kept as single port ranges. Duplicate ports are configured once.
+     *
+     * @param portNames names of the ports, e.g. 1/0/1
+     * @return port ranges, ordered by unit/slot/port
+     */
+    static List<InterfaceRange> coalesce(Collection<String> portNames) {
+        Set<int[]> ports = new TreeSet<>(PORT_ORDER);
+        Set<String> otherPorts = new LinkedHashSet<>();
+        for (String portName : portNames) {
+            int[] port = parsePortName(portName);
+            if (port == null) {
+                otherPorts.add(portName);
+            } else {
+                ports.add(port);
+            }
+        }
+        List<InterfaceRange> ranges = new ArrayList<>();
+        otherPorts.forEach(portName -> ranges.add(new InterfaceRange(Collections.singletonList(portName))));
+
+        List<String> rangePorts = new ArrayList<>();
+        int[] previous = null;
+        for (int[] port : ports) {
+            if (previous != null && (port[0] != previous[0] || port[1] != previous[1] || port[2] != previous[2] + 1)) {
+                ranges.add(new InterfaceRange(rangePorts));
+                rangePorts = new ArrayList<>();
+            }
+            rangePorts.add(port[0] + "/" + port[1] + "/" + port[2]);
+            previous = port;
+        }
+        if (!rangePorts.isEmpty()) {
+            ranges.add(new InterfaceRange(rangePorts));
+        }
+        return ranges;
+    }
+
+    /**
+     * Retrieves the interface name to use with the "interface" command: either a single port name or
+     * a "first-last" range
+     *
+     * @return interface name
+     */
+    String getName() {
+        if (ports.size() == 1) {
+            return ports.get(0);
+        }
+        return ports.get(0) + "-" + ports.get(ports.size() - 1);
+    }
+
+    /**
+     * Retrieves {@link #ports}
+     *
+     * @return value of {@link #ports}
+     */
+    List<String> getPorts() {
+        return ports;
+    }
+
+    /**
+     * Parses unit/slot/port port name
+     *
+     * @param portName port name
+     * @return array of unit, slot and port numbers, or null if the name is not in unit/slot/port format
+     */
+    private static int[] parsePortName(String portName) {
+        String[] parts = portName.split("/");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            return new int[]{Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2])};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.netgear;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.management.ObjectName;
+
+/**
+ * Statistics collection scheduler, shared by all the adapters of the JVM that have it enabled, so the polls of
+ * many switches are not started at the same moment. Every adapter registered is assigned an offset within its
+ * polling interval: the offsets follow the golden ratio sequence, so the polls are spread evenly however many
+ * adapters are registered, without moving the offsets already assigned, and are jittered by a small random
+ * amount, so the adapters registered with the same order after a restart don't hit the same moments again.
+ * The number of telnet sessions used by the collections at once is capped, the collections that would exceed
+ * the cap wait in the queue. Queue depth, and the lag between the scheduled and actual start of the collections
+ * are tracked and are available over JMX.
+ * The scheduler is started with the first registration and stopped once the last one is cancelled.
+ */
+final class NetGearFleetScheduler implements NetGearFleetSchedulerMXBean {
+    private static final double GOLDEN_RATIO_FRACTION = 0.6180339887498949;
+    private static final double JITTER_FRACTION = 0.01;
+    private static final String OBJECT_NAME = "com.avispl.symphony.dal.communicator.netgear:type=FleetScheduler";
+
+    private static NetGearFleetScheduler instance;
+
+    /**
+     * Periodic statistics collection of a single adapter
+     */
+    final class Registration {
+        private final Runnable collection;
+        private final int sessions;
+        private final long offset;
+        private final long interval;
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final ScheduledFuture<?> future;
+        private long nextStartTime;
+        private volatile boolean cancelled;
+
+        private Registration(Runnable collection, int sessions, long offset, long interval) {
+            this.collection = collection;
+            this.sessions = sessions;
+            this.offset = offset;
+            this.interval = interval;
+            nextStartTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offset);
+            future = timer.scheduleAtFixedRate(this::trigger, offset, interval, TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Retrieves {@link #offset}
+         *
+         * @return offset (ms) of the collections within the polling interval
+         */
+        long getOffset() {
+            return offset;
+        }
+
+        /**
+         * Retrieves the scheduler the collection is registered with
+         *
+         * @return {@link NetGearFleetScheduler} instance
+         */
+        NetGearFleetScheduler getScheduler() {
+            return NetGearFleetScheduler.this;
+        }
+
+        /**
+         * Stops the collections, the collection in progress is completed
+         */
+        void cancel() {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            future.cancel(false);
+            unregister();
+        }
+
+        /**
+         * Passes the collection to the collector threads, unless the previous one is still in progress.
+         * Called by the timer thread.
+         */
+        private void trigger() {
+            long scheduledTime = nextStartTime;
+            nextStartTime += TimeUnit.MILLISECONDS.toNanos(interval);
+            if (cancelled || !running.compareAndSet(false, true)) {
+                recordSkippedCollection();
+                return;
+            }
+            try {
+                collectors.execute(() -> collect(scheduledTime));
+            } catch (RuntimeException e) {
+                running.set(false);
+                throw e;
+            }
+        }
+
+        private void collect(long scheduledTime) {
+            try {
+                acquireSessions(sessions);
+                try {
+                    recordLag(System.nanoTime() - scheduledTime);
+                    if (!cancelled) {
+                        collection.run();
+                    }
+                } finally {
+                    releaseSessions(sessions);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.set(false);
+            }
+        }
+    }
+
+    private final ScheduledExecutorService timer;
+    private final ExecutorService collectors;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition sessionsReleased = lock.newCondition();
+
+    private int maxConcurrentSessions;
+    private int activeSessions;
+    private int queueDepth;
+    private int maxQueueDepth;
+    private int registeredDevices;
+    private long registrationsCount;
+    private long lagSum;
+    private long lagCount;
+    private long maxLag;
+    private long skippedCollections;
+    private boolean stopped;
+
+    /**
+     * Creates the scheduler with a daemon timer thread and daemon collector threads, started on demand
+     *
+     * @param maxConcurrentSessions max number of telnet sessions used by the collections at once
+     */
+    NetGearFleetScheduler(int maxConcurrentSessions) {
+        this.maxConcurrentSessions = Math.max(1, maxConcurrentSessions);
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "NetGearCommunicator fleet scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        collectors = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "NetGearCommunicator fleet collector");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Registers a periodic statistics collection with the shared scheduler, starts one if it's not started yet,
+     * and applies the sessions cap
+     *
+     * @param collection statistics collection, has to handle its own failures
+     * @param sessions number of telnet sessions used by the collection
+     * @param interval polling interval, ms
+     * @param maxConcurrentSessions max number of telnet sessions used by the collections of all the adapters at once
+     * @return registration, to cancel the collections with
+     */
+    static synchronized Registration registerShared(Runnable collection, int sessions, long interval, int maxConcurrentSessions) {
+        if (instance == null) {
+            instance = new NetGearFleetScheduler(maxConcurrentSessions);
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(instance, new ObjectName(OBJECT_NAME));
+            } catch (Exception ignored) {
+                // the scheduler works without JMX
+            }
+        } else {
+            instance.setMaxConcurrentSessions(maxConcurrentSessions);
+        }
+        return instance.register(collection, sessions, interval);
+    }
+
+    /**
+     * Registers a periodic statistics collection, assigning it the next offset within the polling interval
+     *
+     * @param collection statistics collection, has to handle its own failures
+     * @param sessions number of telnet sessions used by the collection
+     * @param interval polling interval, ms
+     * @return registration, to cancel the collections with
+     */
+    Registration register(Runnable collection, int sessions, long interval) {
+        long offset;
+        lock.lock();
+        try {
+            if (stopped) {
+                throw new IllegalStateException("Fleet scheduler is stopped");
+            }
+            double fraction = (registrationsCount++ * GOLDEN_RATIO_FRACTION) % 1
+                    + ThreadLocalRandom.current().nextDouble(-JITTER_FRACTION, JITTER_FRACTION);
+            offset = Math.floorMod((long) (fraction * interval), interval);
+            registeredDevices++;
+        } finally {
+            lock.unlock();
+        }
+        return new Registration(collection, sessions, offset, interval);
+    }
+
+    /**
+     * Runs a collection on the calling thread, once the telnet sessions are available
+     *
+     * @param sessions number of telnet sessions used by the collection
+     * @param collection statistics collection
+     * @param <T> collection result type
+     * @return collection result
+     */
+    <T> T call(int sessions, Callable<T> collection) throws Exception {
+        acquireSessions(sessions);
+        try {
+            return collection.call();
+        } finally {
+            releaseSessions(sessions);
+        }
+    }
+
+    /**
+     * Sets {@link #maxConcurrentSessions} value, the collections waiting are started if the cap is raised
+     *
+     * @param maxConcurrentSessions new value of {@link #maxConcurrentSessions}
+     */
+    void setMaxConcurrentSessions(int maxConcurrentSessions) {
+        lock.lock();
+        try {
+            this.maxConcurrentSessions = Math.max(1, maxConcurrentSessions);
+            sessionsReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops the threads. The collection in progress is completed, the rest are dropped.
+     */
+    void shutdown() {
+        lock.lock();
+        try {
+            stopped = true;
+        } finally {
+            lock.unlock();
+        }
+        timer.shutdownNow();
+        collectors.shutdownNow();
+    }
+
+    @Override
+    public int getRegisteredDevices() {
+        lock.lock();
+        try {
+            return registeredDevices;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return queueDepth;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getMaxQueueDepth() {
+        lock.lock();
+        try {
+            return maxQueueDepth;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getActiveSessions() {
+        lock.lock();
+        try {
+            return activeSessions;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getMaxConcurrentSessions() {
+        lock.lock();
+        try {
+            return maxConcurrentSessions;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getAverageLag() {
+        lock.lock();
+        try {
+            return lagCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(lagSum / lagCount);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getMaxLag() {
+        lock.lock();
+        try {
+            return TimeUnit.NANOSECONDS.toMillis(maxLag);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long getSkippedCollections() {
+        lock.lock();
+        try {
+            return skippedCollections;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void reset() {
+        lock.lock();
+        try {
+            maxQueueDepth = queueDepth;
+            lagSum = 0;
+            lagCount = 0;
+            maxLag = 0;
+            skippedCollections = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits for the telnet sessions to be available. The sessions requested are capped by
+     * {@link #maxConcurrentSessions}, so a collection that needs more sessions than the cap still runs, alone.
+     *
+     * @param sessions number of telnet sessions used by the collection
+     */
+    private void acquireSessions(int sessions) throws InterruptedException {
+        lock.lock();
+        try {
+            queueDepth++;
+            maxQueueDepth = Math.max(maxQueueDepth, queueDepth);
+            try {
+                while (activeSessions > 0 && activeSessions + Math.min(sessions, maxConcurrentSessions) > maxConcurrentSessions) {
+                    sessionsReleased.await();
+                }
+            } finally {
+                queueDepth--;
+            }
+            activeSessions += sessions;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseSessions(int sessions) {
+        lock.lock();
+        try {
+            activeSessions -= sessions;
+            sessionsReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recordLag(long lag) {
+        lock.lock();
+        try {
+            long value = Math.max(0, lag);
+            lagSum += value;
+            lagCount++;
+            maxLag = Math.max(maxLag, value);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recordSkippedCollection() {
+        lock.lock();
+        try {
+            skippedCollections++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the cancelled registration, the shared scheduler is stopped once the last registration is cancelled
+     */
+    private void unregister() {
+        boolean last;
+        lock.lock();
+        try {
+            registeredDevices--;
+            last = registeredDevices == 0;
+        } finally {
+            lock.unlock();
+        }
+        if (last) {
+            releaseInstance(this);
+        }
+    }
+
+    /**
+     * Stops the scheduler without registrations, and releases it if it's the shared one
+     *
+     * @param scheduler scheduler without registrations
+     */
+    private static synchronized void releaseInstance(NetGearFleetScheduler scheduler) {
+        if (scheduler.getRegisteredDevices() > 0) {
+            return;
+        }
+        scheduler.shutdown();
+        if (instance != scheduler) {
+            return;
+        }
+        instance = null;
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(OBJECT_NAME));
+        } catch (Exception ignored) {
+            // the MBean is not registered
+        }
+    }
+}
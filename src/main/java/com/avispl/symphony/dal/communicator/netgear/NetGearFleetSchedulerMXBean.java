@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.netgear;
+
+/**
+ * JMX view of the shared statistics collection scheduler, registered once the first adapter joins the scheduler
+ */
+public interface NetGearFleetSchedulerMXBean {
+
+    /**
+     * Retrieves number of adapters registered with the scheduler
+     *
+     * @return number of adapters
+     */
+    int getRegisteredDevices();
+
+    /**
+     * Retrieves number of statistics collections waiting for a telnet session slot
+     *
+     * @return current queue depth
+     */
+    int getQueueDepth();
+
+    /**
+     * Retrieves max number of statistics collections waiting for a telnet session slot at once
+     *
+     * @return max queue depth
+     */
+    int getMaxQueueDepth();
+
+    /**
+     * Retrieves number of statistics collections in progress
+     *
+     * @return number of telnet sessions used by the collections
+     */
+    int getActiveSessions();
+
+    /**
+     * Retrieves limit of the statistics collections in progress
+     *
+     * @return max number of concurrent telnet sessions
+     */
+    int getMaxConcurrentSessions();
+
+    /**
+     * Retrieves average delay between the scheduled and actual start of the statistics collections
+     *
+     * @return average lag, ms
+     */
+    long getAverageLag();
+
+    /**
+     * Retrieves max delay between the scheduled and actual start of the statistics collections
+     *
+     * @return max lag, ms
+     */
+    long getMaxLag();
+
+    /**
+     * Retrieves number of statistics collections skipped, since the previous collection of the same adapter
+     * was still in progress
+     *
+     * @return number of skipped collections
+     */
+    long getSkippedCollections();
+
+    /**
+     * Resets the queue depth, lag and skipped collections metrics
+     */
+    void reset();
+}
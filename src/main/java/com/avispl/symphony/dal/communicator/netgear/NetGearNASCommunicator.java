@@ -8,228 +8,2185 @@ import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
 import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
 import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
 import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+import com.avispl.symphony.api.dal.error.CommandFailureException;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
 import com.avispl.symphony.dal.communicator.TelnetCommunicator;
+import com.avispl.symphony.dal.util.StringUtils;
 import org.apache.commons.net.telnet.EchoOptionHandler;
 import org.springframework.util.CollectionUtils;
 
+import javax.management.ObjectName;
+import javax.security.auth.login.FailedLoginException;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.Socket;
 import java.util.*;
-import java.util.concurrent.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class NetGearNASCommunicator extends TelnetCommunicator implements Monitorable, Controller {
 
     private static final String TELNET_UNSAVED_CHANGES_PROMPT = "Would you like to save them now? (y/n) ";
     private static final String TELNET_STACK_RELOAD_PROMPT = "Are you sure you want to reload the stack? (y/n) ";
+    private static final String TELNET_PAGINATION_PROMPT = "--More-- or (q)uit";
+    private static final String TELNET_INVALID_INPUT = "% Invalid input detected at '^' marker.";
+    private static final String STATISTICS_COLLECTION_MODE_SNMP = "SNMP";
+    private static final String TELNET_TRANSPORT_NIO = "NIO";
+    private static final String IP_MANAGEMENT_COMMAND = "show ip management";
+    private static final String POE_COMMAND = "show poe";
+    private static final String POE_PORT_COMMAND = "show poe port all";
+    private static final String INTERFACE_SWITCHPORT_COMMAND = "show interface switchport";
+    private static final String ENVIRONMENT_COMMAND = "show environment";
+    private static final String INTERFACE_ETHERNET_COMMAND = "show interface ethernet all | exclude lag";
+    private static final String PORT_STATUS_COMMAND = "show port status all | exclude lag";
+    private static final String RUNNING_CONFIG_COMMAND = "show running-config";
     private static final long reloadGracePeriod = 180000;
     private static final int controlTelnetTimeout = 3000;
     private static final int statisticsTelnetTimeout = 30000;
+    private static final long sessionProbeThreshold = 1000;
 
-    private volatile boolean isOccupiedByControl = false;
+    /**
+     * Whether the telnet session is kept open between statistics polls, instead of connect/login/disconnect
+     * on every {@link #getMultipleStatistics()} call
+     */
+    private boolean keepAliveSession = false;
+
+    /**
+     * Period of inactivity (ms) after which a kept-alive session is considered stale and is re-created.
+     * M4300 drops idle telnet sessions after 5 minutes by default.
+     */
+    private long sessionIdleTimeout = 300000;
+
+    private long lastSessionActivity;
+
+    /**
+     * CLI mode of the current telnet session, tracked based on the prompts received
+     */
+    private CliMode cliMode = CliMode.UNKNOWN;
+
+    /**
+     * Name of the interface currently configured, if {@link #cliMode} is {@link CliMode#INTERFACE}
+     */
+    private String currentInterface;
+
+    /**
+     * Whether CLI pagination is disabled for the current telnet session
+     */
+    private boolean paginationDisabled = false;
+
+    /**
+     * Whether the switch firmware supports disabling the CLI pagination. Set to false once the
+     * "terminal length 0" command is rejected, so the paginated responses are collected page by page.
+     */
+    private boolean paginationControlSupported = true;
+
+    /**
+     * Number of pages fetched per command during the last statistics poll
+     */
+    private final Map<String, Integer> fetchedPagesCount = new LinkedHashMap<>();
+
+    /**
+     * Whether statistics commands are written to the switch in a single batch, instead of waiting for the prompt
+     * after each of them. Is only used when the CLI pagination is disabled for the session.
+     */
+    private boolean batchCommands = false;
+
+    /**
+     * Timeout (ms) for a single command response within a commands batch
+     */
+    private int batchCommandTimeout = 10000;
+
+    /**
+     * Privileged mode prompt of the current session, e.g. (M4300-28G-PoE+) #
+     */
+    private String privilegedPrompt;
+
+    /**
+     * Number of statistics cycles between "show environment" refreshes, 1 means every cycle
+     */
+    private int environmentPollingCycle = 1;
+
+    /**
+     * Minimal period (ms) between "show ip management" refreshes, 0 means every cycle
+     */
+    private long ipManagementPollingInterval = 0;
+
+    private final StatisticsGroupCache environmentCache = new StatisticsGroupCache();
+    private final StatisticsGroupCache ipManagementCache = new StatisticsGroupCache();
+
+    private int expectedBatchPrompts;
+    private int receivedBatchPrompts;
+    private int batchScanIndex;
+    private long batchSegmentStartTime;
+
+    private final ReentrantLock telnetOperationsLock = new ReentrantLock();
+
+    /**
+     * The switches that have that many controls share the similar issue - each control action by design will
+     * trigger a statistic retrieval. In order to stack multiple controls together - the control window is tracked:
+     * it is opened whenever a port control is toggled, and closed after {@link #controlQuietPeriod} with no control
+     * actions. While the window is open - the last statistics collected are reported, without a statistics refresh
+     * after each of the control actions.
+     */
+    private volatile ControlWindowDebouncer controlWindow;
+
+    /**
+     * Period (ms) without control actions, after which the statistics refresh is resumed
+     */
+    private long controlQuietPeriod = 3000;
+
+    /**
+     * Last statistics collected, updated with the control actions applied since then
+     */
+    private volatile StatisticsSnapshot localStatistics;
+
+    /**
+     * Defines how the statistics are collected: "Telnet" (default) or "SNMP". In the SNMP mode telnet is used for
+     * the controls and the "show ip management" data only.
+     */
+    private String statisticsCollectionMode = "Telnet";
+
+    private NetGearSnmpStatisticsCollector snmpStatisticsCollector;
+
+    /**
+     * Whether per port PoE data (priority, class, output power and status) is retrieved with "show poe port all"
+     */
+    private boolean poePortStatistics = false;
+
+    /**
+     * Whether per second packet rates are calculated for the ports and total packet counters, based on the
+     * counter values retrieved by successive polls
+     */
+    private boolean counterRates = false;
+
+    private final PortCounterRateTracker portCounterRateTracker = new PortCounterRateTracker();
+
+    /**
+     * Whether the communicator performance metrics (telnet commands, paginated responses and parsers latencies,
+     * response sizes, telnet operations lock wait time and connections) are collected. The metrics are reported
+     * in the "Performance" statistics group and over JMX.
+     */
+    private boolean performanceMetrics = false;
+
+    private final PerformanceMetrics metrics = new PerformanceMetrics();
+
+    private ObjectName metricsObjectName;
+
+    /**
+     * Whether the paginated responses are parsed page by page as they are received, instead of collecting the
+     * complete response first
+     */
+    private boolean streamingParse = false;
+
+    /**
+     * Number of concurrent telnet sessions the statistics commands are distributed across, 1 means all the
+     * commands are sent over a single session
+     */
+    private int parallelSessions = 1;
+
+    /**
+     * Maximum number of telnet sessions the adapter is allowed to open to the switch at once. Has to be below the
+     * switch "ip telnet server maxsessions" setting, so the sessions are left for the other clients.
+     */
+    private int maxTelnetSessions = 4;
+
+    /**
+     * Additional telnet sessions used when {@link #parallelSessions} is above 1, accessed under {@link #telnetOperationsLock}
+     */
+    private final List<NetGearNASCommunicator> workerSessions = new ArrayList<>();
+
+    private ExecutorService workerSessionsExecutor;
+
+    /**
+     * Whether the instance is a worker session of another adapter, used to collect a slice of the statistics
+     * commands only, so the control window, reload monitoring, JMX metrics and fleet scheduling are not started
+     */
+    private final boolean workerSession;
+
+    /**
+     * Telnet transport: "Blocking" (default) uses the commons-net telnet client, polling the input stream,
+     * "NIO" uses non-blocking {@link NioTelnetSession}, with the sessions of all the switches served by a single
+     * selector thread and the responses awaited with precise deadlines
+     */
+    private String telnetTransport = "Blocking";
+
+    private NioTelnetSession nioTelnetSession;
+
+    /**
+     * Whether the command timeouts are derived from the latencies observed, instead of the fixed control and
+     * statistics timeouts: the 99th percentile latency of the command is multiplied by {@link #adaptiveTimeoutMultiplier},
+     * the fixed timeouts are used as the upper limit
+     */
+    private boolean adaptiveTimeouts = false;
+
+    /**
+     * Multiplier of the 99th percentile command latency, used as the adaptive command timeout
+     */
+    private double adaptiveTimeoutMultiplier = 3;
+
+    /**
+     * Lower limit (ms) of the adaptive command timeouts
+     */
+    private int minAdaptiveTimeout = 1000;
+
+    private final CommandTimeoutTracker commandTimeoutTracker = new CommandTimeoutTracker();
+
+    /**
+     * Number of consecutive failed statistics polls, after which the last statistics collected are reported with
+     * the stale marker, without polling the switch. 0 means the circuit breaker is disabled.
+     */
+    private int circuitBreakerThreshold = 0;
+
+    /**
+     * Period (ms) after which the switch is probed with ICMP ping (or telnet port connection, if ICMP is blocked),
+     * and polled again if it's reachable
+     */
+    private long circuitBreakerOpenPeriod = 60000;
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /**
+     * Period (ms) after the stack reload confirmation, after which the switch is probed for the first time. The
+     * probe interval is doubled after every probe, up to {@link #reloadProbeMaxInterval}.
+     */
+    private long reloadProbeInterval = 5000;
+
+    /**
+     * Upper limit (ms) of the probe interval while the stack is reloading
+     */
+    private long reloadProbeMaxInterval = 30000;
+
+    /**
+     * Period (ms) after the stack reload confirmation, after which the switch is polled the regular way even if
+     * it hasn't come back, so it's reported as failed. 0 means no limit.
+     */
+    private long maxReloadDuration = 600000;
+
+    /**
+     * Tracks the stack reload, while the reload is in progress - the last statistics collected are reported
+     * without polling the switch
+     */
+    private volatile ReloadMonitor reloadMonitor;
+
+    /**
+     * Duration (ms) of the last stack reload, from the reload confirmation to the CLI availability, -1 if there was none
+     */
+    private volatile long lastReloadDuration = -1;
+
+    /**
+     * Whether statistics are collected in the background by {@link NetGearFleetScheduler}, shared by all the
+     * adapters of the JVM, at the offset within {@link #fleetPollingInterval} assigned so the polls of the switches
+     * are spread evenly, instead of on every {@link #getMultipleStatistics()} call. The last statistics collected are
+     * reported by {@link #getMultipleStatistics()}.
+     */
+    private boolean fleetScheduling = false;
+
+    /**
+     * Period (ms) between the background statistics collections, if {@link #fleetScheduling} is enabled
+     */
+    private long fleetPollingInterval = 60000;
+
+    /**
+     * Max number of telnet sessions used by the background statistics collections of all the adapters of the JVM
+     * at once. The scheduler is shared, so the value of the last adapter initialized is applied.
+     */
+    private int fleetMaxConcurrentSessions = 16;
+
+    private NetGearFleetScheduler.Registration fleetRegistration;
+
+    /**
+     * Whether configuration changes are detected with the "show running-config" digest, retrieved every
+     * {@link #configDigestPollingInterval}. While the configuration is unchanged - the port controls are not
+     * rebuilt, only the controls of the ports which state has changed are updated.
+     */
+    private boolean configChangeDetection = false;
+
+    /**
+     * Minimal period (ms) between the "show running-config" digest refreshes, the digest is refreshed after
+     * every control action as well
+     */
+    private long configDigestPollingInterval = 300000;
+
+    /**
+     * Last "show running-config" digest, accessed under {@link #telnetOperationsLock}
+     */
+    private String runningConfigDigest;
+
+    /**
+     * Time (ms) of the last "show running-config" digest refresh, 0 if the digest has to be refreshed by the
+     * next poll. Accessed under {@link #telnetOperationsLock}
+     */
+    private long runningConfigDigestTimestamp;
+
+    /**
+     * Result of the last background statistics collection, null until the first collection is completed
+     */
+    private volatile FleetCollectionResult fleetCollectionResult;
+
+    /**
+     * Result of a background statistics collection: either the statistics and the snapshot they are based on,
+     * or the collection failure
+     */
+    private static final class FleetCollectionResult {
+        private final ExtendedStatistics statistics;
+        private final StatisticsSnapshot snapshot;
+        private final Exception failure;
+
+        private FleetCollectionResult(ExtendedStatistics statistics, StatisticsSnapshot snapshot, Exception failure) {
+            this.statistics = statistics;
+            this.snapshot = snapshot;
+            this.failure = failure;
+        }
+    }
+
+    public NetGearNASCommunicator(){
+        this(false);
+    }
+
+    /**
+     * Creates the adapter or a worker session of another adapter
+     *
+     * @param workerSession value of {@link #workerSession}
+     */
+    private NetGearNASCommunicator(boolean workerSession){
+        super();
+        this.workerSession = workerSession;
+        this.setLoginPrompt("User:");
+        this.setPasswordPrompt("Password:");
+        this.setCommandSuccessList(Arrays.asList("\n","#",TELNET_PAGINATION_PROMPT, "Config file 'startup-config' created successfully .", "Configuration Saved!", TELNET_UNSAVED_CHANGES_PROMPT, TELNET_STACK_RELOAD_PROMPT, "Password:")); //Would you like to save them now? (y/n)
+        this.setCommandErrorList(Arrays.asList(TELNET_INVALID_INPUT));
+        this.setLoginSuccessList(Collections.singletonList(">"));
+        this.setOptionHandlers(Collections.singletonList(new EchoOptionHandler(true, true, true ,false)));
+    }
+
+    /**
+     * Retrieves {@link #keepAliveSession}
+     *
+     * @return value of {@link #keepAliveSession}
+     */
+    public boolean isKeepAliveSession() {
+        return keepAliveSession;
+    }
+
+    /**
+     * Sets {@link #keepAliveSession} value
+     *
+     * @param keepAliveSession new value of {@link #keepAliveSession}
+     */
+    public void setKeepAliveSession(boolean keepAliveSession) {
+        this.keepAliveSession = keepAliveSession;
+    }
+
+    /**
+     * Retrieves {@link #sessionIdleTimeout}
+     *
+     * @return value of {@link #sessionIdleTimeout}
+     */
+    public long getSessionIdleTimeout() {
+        return sessionIdleTimeout;
+    }
+
+    /**
+     * Sets {@link #sessionIdleTimeout} value
+     *
+     * @param sessionIdleTimeout new value of {@link #sessionIdleTimeout}
+     */
+    public void setSessionIdleTimeout(long sessionIdleTimeout) {
+        this.sessionIdleTimeout = sessionIdleTimeout;
+    }
+
+    /**
+     * Retrieves {@link #batchCommands}
+     *
+     * @return value of {@link #batchCommands}
+     */
+    public boolean isBatchCommands() {
+        return batchCommands;
+    }
+
+    /**
+     * Sets {@link #batchCommands} value
+     *
+     * @param batchCommands new value of {@link #batchCommands}
+     */
+    public void setBatchCommands(boolean batchCommands) {
+        this.batchCommands = batchCommands;
+    }
+
+    /**
+     * Retrieves {@link #batchCommandTimeout}
+     *
+     * @return value of {@link #batchCommandTimeout}
+     */
+    public int getBatchCommandTimeout() {
+        return batchCommandTimeout;
+    }
+
+    /**
+     * Sets {@link #batchCommandTimeout} value
+     *
+     * @param batchCommandTimeout new value of {@link #batchCommandTimeout}
+     */
+    public void setBatchCommandTimeout(int batchCommandTimeout) {
+        this.batchCommandTimeout = batchCommandTimeout;
+    }
+
+    /**
+     * Retrieves {@link #environmentPollingCycle}
+     *
+     * @return value of {@link #environmentPollingCycle}
+     */
+    public int getEnvironmentPollingCycle() {
+        return environmentPollingCycle;
+    }
+
+    /**
+     * Sets {@link #environmentPollingCycle} value
+     *
+     * @param environmentPollingCycle new value of {@link #environmentPollingCycle}
+     */
+    public void setEnvironmentPollingCycle(int environmentPollingCycle) {
+        this.environmentPollingCycle = environmentPollingCycle;
+    }
+
+    /**
+     * Retrieves {@link #ipManagementPollingInterval}
+     *
+     * @return value of {@link #ipManagementPollingInterval}
+     */
+    public long getIpManagementPollingInterval() {
+        return ipManagementPollingInterval;
+    }
+
+    /**
+     * Sets {@link #ipManagementPollingInterval} value
+     *
+     * @param ipManagementPollingInterval new value of {@link #ipManagementPollingInterval}
+     */
+    public void setIpManagementPollingInterval(long ipManagementPollingInterval) {
+        this.ipManagementPollingInterval = ipManagementPollingInterval;
+    }
+
+    /**
+     * Retrieves {@link #statisticsCollectionMode}
+     *
+     * @return value of {@link #statisticsCollectionMode}
+     */
+    public String getStatisticsCollectionMode() {
+        return statisticsCollectionMode;
+    }
+
+    /**
+     * Sets {@link #statisticsCollectionMode} value
+     *
+     * @param statisticsCollectionMode new value of {@link #statisticsCollectionMode}
+     */
+    public void setStatisticsCollectionMode(String statisticsCollectionMode) {
+        this.statisticsCollectionMode = statisticsCollectionMode;
+    }
+
+    /**
+     * Retrieves {@link #controlQuietPeriod}
+     *
+     * @return value of {@link #controlQuietPeriod}
+     */
+    public long getControlQuietPeriod() {
+        return controlQuietPeriod;
+    }
+
+    /**
+     * Sets {@link #controlQuietPeriod} value
+     *
+     * @param controlQuietPeriod new value of {@link #controlQuietPeriod}
+     */
+    public void setControlQuietPeriod(long controlQuietPeriod) {
+        this.controlQuietPeriod = controlQuietPeriod;
+        ControlWindowDebouncer debouncer = controlWindow;
+        if(debouncer != null){
+            debouncer.setQuietPeriod(controlQuietPeriod);
+        }
+    }
+
+    /**
+     * Retrieves {@link #counterRates}
+     *
+     * @return value of {@link #counterRates}
+     */
+    public boolean isCounterRates() {
+        return counterRates;
+    }
+
+    /**
+     * Sets {@link #counterRates} value
+     *
+     * @param counterRates new value of {@link #counterRates}
+     */
+    public void setCounterRates(boolean counterRates) {
+        this.counterRates = counterRates;
+    }
+
+    /**
+     * Retrieves {@link #poePortStatistics}
+     *
+     * @return value of {@link #poePortStatistics}
+     */
+    public boolean isPoePortStatistics() {
+        return poePortStatistics;
+    }
+
+    /**
+     * Sets {@link #poePortStatistics} value
+     *
+     * @param poePortStatistics new value of {@link #poePortStatistics}
+     */
+    public void setPoePortStatistics(boolean poePortStatistics) {
+        this.poePortStatistics = poePortStatistics;
+    }
+
+    /**
+     * Retrieves {@link #performanceMetrics}
+     *
+     * @return value of {@link #performanceMetrics}
+     */
+    public boolean isPerformanceMetrics() {
+        return performanceMetrics;
+    }
+
+    /**
+     * Sets {@link #performanceMetrics} value
+     *
+     * @param performanceMetrics new value of {@link #performanceMetrics}
+     */
+    public void setPerformanceMetrics(boolean performanceMetrics) {
+        this.performanceMetrics = performanceMetrics;
+    }
+
+    /**
+     * Retrieves {@link #streamingParse}
+     *
+     * @return value of {@link #streamingParse}
+     */
+    public boolean isStreamingParse() {
+        return streamingParse;
+    }
+
+    /**
+     * Sets {@link #streamingParse} value
+     *
+     * @param streamingParse new value of {@link #streamingParse}
+     */
+    public void setStreamingParse(boolean streamingParse) {
+        this.streamingParse = streamingParse;
+    }
+
+    /**
+     * Retrieves {@link #parallelSessions}
+     *
+     * @return value of {@link #parallelSessions}
+     */
+    public int getParallelSessions() {
+        return parallelSessions;
+    }
+
+    /**
+     * Sets {@link #parallelSessions} value
+     *
+     * @param parallelSessions new value of {@link #parallelSessions}
+     */
+    public void setParallelSessions(int parallelSessions) {
+        this.parallelSessions = parallelSessions;
+    }
+
+    /**
+     * Retrieves {@link #maxTelnetSessions}
+     *
+     * @return value of {@link #maxTelnetSessions}
+     */
+    public int getMaxTelnetSessions() {
+        return maxTelnetSessions;
+    }
+
+    /**
+     * Sets {@link #maxTelnetSessions} value
+     *
+     * @param maxTelnetSessions new value of {@link #maxTelnetSessions}
+     */
+    public void setMaxTelnetSessions(int maxTelnetSessions) {
+        this.maxTelnetSessions = maxTelnetSessions;
+    }
+
+    /**
+     * Retrieves {@link #telnetTransport}
+     *
+     * @return value of {@link #telnetTransport}
+     */
+    public String getTelnetTransport() {
+        return telnetTransport;
+    }
+
+    /**
+     * Sets {@link #telnetTransport} value
+     *
+     * @param telnetTransport new value of {@link #telnetTransport}
+     */
+    public void setTelnetTransport(String telnetTransport) {
+        this.telnetTransport = telnetTransport;
+    }
+
+    /**
+     * Retrieves {@link #adaptiveTimeouts}
+     *
+     * @return value of {@link #adaptiveTimeouts}
+     */
+    public boolean isAdaptiveTimeouts() {
+        return adaptiveTimeouts;
+    }
+
+    /**
+     * Sets {@link #adaptiveTimeouts} value
+     *
+     * @param adaptiveTimeouts new value of {@link #adaptiveTimeouts}
+     */
+    public void setAdaptiveTimeouts(boolean adaptiveTimeouts) {
+        this.adaptiveTimeouts = adaptiveTimeouts;
+    }
+
+    /**
+     * Retrieves {@link #adaptiveTimeoutMultiplier}
+     *
+     * @return value of {@link #adaptiveTimeoutMultiplier}
+     */
+    public double getAdaptiveTimeoutMultiplier() {
+        return adaptiveTimeoutMultiplier;
+    }
+
+    /**
+     * Sets {@link #adaptiveTimeoutMultiplier} value
+     *
+     * @param adaptiveTimeoutMultiplier new value of {@link #adaptiveTimeoutMultiplier}
+     */
+    public void setAdaptiveTimeoutMultiplier(double adaptiveTimeoutMultiplier) {
+        this.adaptiveTimeoutMultiplier = adaptiveTimeoutMultiplier;
+    }
+
+    /**
+     * Retrieves {@link #minAdaptiveTimeout}
+     *
+     * @return value of {@link #minAdaptiveTimeout}
+     */
+    public int getMinAdaptiveTimeout() {
+        return minAdaptiveTimeout;
+    }
+
+    /**
+     * Sets {@link #minAdaptiveTimeout} value
+     *
+     * @param minAdaptiveTimeout new value of {@link #minAdaptiveTimeout}
+     */
+    public void setMinAdaptiveTimeout(int minAdaptiveTimeout) {
+        this.minAdaptiveTimeout = minAdaptiveTimeout;
+    }
+
+    /**
+     * Retrieves {@link #circuitBreakerThreshold}
+     *
+     * @return value of {@link #circuitBreakerThreshold}
+     */
+    public int getCircuitBreakerThreshold() {
+        return circuitBreakerThreshold;
+    }
+
+    /**
+     * Sets {@link #circuitBreakerThreshold} value
+     *
+     * @param circuitBreakerThreshold new value of {@link #circuitBreakerThreshold}
+     */
+    public void setCircuitBreakerThreshold(int circuitBreakerThreshold) {
+        this.circuitBreakerThreshold = circuitBreakerThreshold;
+    }
+
+    /**
+     * Retrieves {@link #circuitBreakerOpenPeriod}
+     *
+     * @return value of {@link #circuitBreakerOpenPeriod}
+     */
+    public long getCircuitBreakerOpenPeriod() {
+        return circuitBreakerOpenPeriod;
+    }
+
+    /**
+     * Sets {@link #circuitBreakerOpenPeriod} value
+     *
+     * @param circuitBreakerOpenPeriod new value of {@link #circuitBreakerOpenPeriod}
+     */
+    public void setCircuitBreakerOpenPeriod(long circuitBreakerOpenPeriod) {
+        this.circuitBreakerOpenPeriod = circuitBreakerOpenPeriod;
+    }
+
+    /**
+     * Retrieves {@link #reloadProbeInterval}
+     *
+     * @return value of {@link #reloadProbeInterval}
+     */
+    public long getReloadProbeInterval() {
+        return reloadProbeInterval;
+    }
+
+    /**
+     * Sets {@link #reloadProbeInterval} value
+     *
+     * @param reloadProbeInterval new value of {@link #reloadProbeInterval}
+     */
+    public void setReloadProbeInterval(long reloadProbeInterval) {
+        this.reloadProbeInterval = reloadProbeInterval;
+    }
+
+    /**
+     * Retrieves {@link #reloadProbeMaxInterval}
+     *
+     * @return value of {@link #reloadProbeMaxInterval}
+     */
+    public long getReloadProbeMaxInterval() {
+        return reloadProbeMaxInterval;
+    }
+
+    /**
+     * Sets {@link #reloadProbeMaxInterval} value
+     *
+     * @param reloadProbeMaxInterval new value of {@link #reloadProbeMaxInterval}
+     */
+    public void setReloadProbeMaxInterval(long reloadProbeMaxInterval) {
+        this.reloadProbeMaxInterval = reloadProbeMaxInterval;
+    }
+
+    /**
+     * Retrieves {@link #fleetScheduling}
+     *
+     * @return value of {@link #fleetScheduling}
+     */
+    public boolean isFleetScheduling() {
+        return fleetScheduling;
+    }
+
+    /**
+     * Sets {@link #fleetScheduling} value
+     *
+     * @param fleetScheduling new value of {@link #fleetScheduling}
+     */
+    public void setFleetScheduling(boolean fleetScheduling) {
+        this.fleetScheduling = fleetScheduling;
+    }
+
+    /**
+     * Retrieves {@link #fleetPollingInterval}
+     *
+     * @return value of {@link #fleetPollingInterval}
+     */
+    public long getFleetPollingInterval() {
+        return fleetPollingInterval;
+    }
+
+    /**
+     * Sets {@link #fleetPollingInterval} value
+     *
+     * @param fleetPollingInterval new value of {@link #fleetPollingInterval}
+     */
+    public void setFleetPollingInterval(long fleetPollingInterval) {
+        this.fleetPollingInterval = fleetPollingInterval;
+    }
+
+    /**
+     * Retrieves {@link #fleetMaxConcurrentSessions}
+     *
+     * @return value of {@link #fleetMaxConcurrentSessions}
+     */
+    public int getFleetMaxConcurrentSessions() {
+        return fleetMaxConcurrentSessions;
+    }
+
+    /**
+     * Sets {@link #fleetMaxConcurrentSessions} value
+     *
+     * @param fleetMaxConcurrentSessions new value of {@link #fleetMaxConcurrentSessions}
+     */
+    public void setFleetMaxConcurrentSessions(int fleetMaxConcurrentSessions) {
+        this.fleetMaxConcurrentSessions = fleetMaxConcurrentSessions;
+    }
+
+    /**
+     * Retrieves {@link #configChangeDetection}
+     *
+     * @return value of {@link #configChangeDetection}
+     */
+    public boolean isConfigChangeDetection() {
+        return configChangeDetection;
+    }
+
+    /**
+     * Sets {@link #configChangeDetection} value
+     *
+     * @param configChangeDetection new value of {@link #configChangeDetection}
+     */
+    public void setConfigChangeDetection(boolean configChangeDetection) {
+        this.configChangeDetection = configChangeDetection;
+    }
+
+    /**
+     * Retrieves {@link #configDigestPollingInterval}
+     *
+     * @return value of {@link #configDigestPollingInterval}
+     */
+    public long getConfigDigestPollingInterval() {
+        return configDigestPollingInterval;
+    }
+
+    /**
+     * Sets {@link #configDigestPollingInterval} value
+     *
+     * @param configDigestPollingInterval new value of {@link #configDigestPollingInterval}
+     */
+    public void setConfigDigestPollingInterval(long configDigestPollingInterval) {
+        this.configDigestPollingInterval = configDigestPollingInterval;
+    }
+
+    /**
+     * Retrieves {@link #maxReloadDuration}
+     *
+     * @return value of {@link #maxReloadDuration}
+     */
+    public long getMaxReloadDuration() {
+        return maxReloadDuration;
+    }
+
+    /**
+     * Sets {@link #maxReloadDuration} value
+     *
+     * @param maxReloadDuration new value of {@link #maxReloadDuration}
+     */
+    public void setMaxReloadDuration(long maxReloadDuration) {
+        this.maxReloadDuration = maxReloadDuration;
+    }
+
+    @Override
+    protected void internalInit() throws Exception {
+        super.internalInit();
+        if(workerSession){
+            return;
+        }
+        controlWindow = new ControlWindowDebouncer("NetGearCommunicator control window " + host, controlQuietPeriod);
+        reloadMonitor = new ReloadMonitor("NetGearCommunicator reload monitor " + host, this::isDeviceReachable, this::refreshAfterReload);
+        if(performanceMetrics){
+            registerPerformanceMetrics();
+        }
+        if(fleetScheduling){
+            fleetRegistration = NetGearFleetScheduler.registerShared(this::collectFleetStatistics, retrieveFleetSessionsCount(),
+                    Math.max(1, fleetPollingInterval), fleetMaxConcurrentSessions);
+        }
+    }
+
+    @Override
+    protected void internalDestroy() {
+        if(fleetRegistration != null){
+            fleetRegistration.cancel();
+            fleetRegistration = null;
+            fleetCollectionResult = null;
+        }
+        if(snmpStatisticsCollector != null){
+            try {
+                snmpStatisticsCollector.close();
+            } catch (Exception e) {
+                logger.warn("NetGearCommunicator: Unable to close SNMP session for " + host, e);
+            }
+            snmpStatisticsCollector = null;
+        }
+        if(controlWindow != null){
+            controlWindow.shutdown();
+            controlWindow = null;
+        }
+        if(reloadMonitor != null){
+            reloadMonitor.shutdown();
+            reloadMonitor = null;
+        }
+        unregisterPerformanceMetrics();
+        destroyWorkerSessions();
+        super.internalDestroy();
+    }
+
+    /**
+     * Destroys the worker sessions and stops the worker threads
+     */
+    private void destroyWorkerSessions() {
+        telnetOperationsLock.lock();
+        try {
+            workerSessions.forEach(NetGearNASCommunicator::destroy);
+            workerSessions.clear();
+            if(workerSessionsExecutor != null){
+                workerSessionsExecutor.shutdownNow();
+                workerSessionsExecutor = null;
+            }
+        } finally {
+            telnetOperationsLock.unlock();
+        }
+    }
+
+    /**
+     * Registers {@link #metrics} with the platform MBean server, so the metrics are available over JMX
+     */
+    private void registerPerformanceMetrics() {
+        try {
+            ObjectName objectName = new ObjectName("com.avispl.symphony.dal.communicator.netgear:type=PerformanceMetrics,host="
+                    + ObjectName.quote(String.valueOf(host)) + ",id=" + System.identityHashCode(this));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, objectName);
+            metricsObjectName = objectName;
+        } catch (Exception e) {
+            logger.warn("NetGearCommunicator: Unable to register performance metrics MBean for " + host, e);
+        }
+    }
+
+    /**
+     * Unregisters {@link #metrics} from the platform MBean server, if registered
+     */
+    private void unregisterPerformanceMetrics() {
+        if(metricsObjectName == null){
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(metricsObjectName);
+        } catch (Exception e) {
+            logger.warn("NetGearCommunicator: Unable to unregister performance metrics MBean for " + host, e);
+        }
+        metricsObjectName = null;
+    }
+
+    /**
+     * Retrieves {@link #metricsObjectName}
+     *
+     * @return value of {@link #metricsObjectName}, null if the metrics are not registered over JMX
+     */
+    ObjectName getMetricsObjectName() {
+        return metricsObjectName;
+    }
+
+    /**
+     * Acquires {@link #telnetOperationsLock}, recording the lock wait time if {@link #performanceMetrics} is enabled
+     */
+    private void lockTelnetOperations() {
+        if(!performanceMetrics){
+            telnetOperationsLock.lock();
+            return;
+        }
+        long startTime = metrics.nanoTime();
+        telnetOperationsLock.lock();
+        metrics.recordLockWait(metrics.nanoTime() - startTime);
+    }
+
+    /**
+     * Retrieves the start time of a measured operation
+     *
+     * @return {@link PerformanceMetrics#nanoTime()} if {@link #performanceMetrics} is enabled, 0 otherwise
+     */
+    private long metricsStartTime() {
+        return performanceMetrics ? metrics.nanoTime() : 0;
+    }
+
+    /**
+     * Records response parsing time, if {@link #performanceMetrics} is enabled
+     *
+     * @param command command the parsed response belongs to
+     * @param startTime parsing start time, retrieved by {@link #metricsStartTime()}
+     */
+    private void recordParse(String command, long startTime) {
+        if(performanceMetrics){
+            metrics.recordParse(command, startTime);
+        }
+    }
+
+    /**
+     * Creates the metric name of a telnet command, so the password and interface names are not exposed as
+     * separate metrics
+     *
+     * @param command telnet command
+     * @return metric name
+     */
+    private String commandMetricName(String command) {
+        if(command.isEmpty()){
+            return "empty line";
+        }
+        if(command.equals(getPassword())){
+            return "password";
+        }
+        if(command.trim().indexOf('\n') >= 0){
+            return "batch";
+        }
+        if(command.startsWith("interface ")){
+            return "interface";
+        }
+        return command;
+    }
+
+    /**
+     * Controls NetGear switch by implementing Stack Reload functionality and PoE ports startup/shutdown
+     */
+    @Override
+    public void controlProperty(ControllableProperty controllableProperty) throws Exception {
+        String property = controllableProperty.getProperty();
+
+        if (property.startsWith("Port")) {
+            controlPorts(Collections.singletonList(controllableProperty));
+            return;
+        }
+
+        lockTelnetOperations();
+        try {
+            this.timeout = controlTelnetTimeout;
+            if(!enableTelnet()){
+                return;
+            }
+
+            if (property.equals("Reload")) {
+                reloadStack();
+            } else {
+                logger.info("NetGearCommunicator: Command " + property + " is not implemented. Skipping.");
+            }
+        } finally {
+            this.timeout = statisticsTelnetTimeout;
+            telnetOperationsLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Port controls are applied within a single config session, with consecutive ports that have to be switched
+     * to the same state grouped into interface ranges. Other controls are applied one by one afterwards.
+     */
+    @Override
+    public void controlProperties(List<ControllableProperty> controllablePropertyList) throws Exception {
+        if (CollectionUtils.isEmpty(controllablePropertyList)) {
+            throw new IllegalArgumentException("NetGearCommunicator: Controllable properties cannot be null or empty");
+        }
+
+        List<ControllableProperty> portControls = new ArrayList<>();
+        List<ControllableProperty> otherControls = new ArrayList<>();
+        for(ControllableProperty controllableProperty: controllablePropertyList){
+            if(controllableProperty.getProperty().startsWith("Port")){
+                portControls.add(controllableProperty);
+            } else {
+                otherControls.add(controllableProperty);
+            }
+        }
+        if(!portControls.isEmpty()){
+            controlPorts(portControls);
+        }
+        for(ControllableProperty controllableProperty: otherControls){
+            controlProperty(controllableProperty);
+        }
+    }
+
+    /**
+     * Starts up or shuts down PoE ports. Ports are grouped by the requested state, and consecutive ports of each
+     * group are configured with a single interface range command. If the range command fails - ports of the range
+     * are configured one by one. If the same port is requested more than once - the last request is applied.
+     *
+     * @param portControls port controls to apply
+     * @throws CommandFailureException if any of the ports has failed to switch to the requested state
+     */
+    private void controlPorts(List<ControllableProperty> portControls) throws Exception {
+        Map<String, String> requestedStates = new LinkedHashMap<>();
+        for(ControllableProperty controllableProperty: portControls){
+            String portName = controllableProperty.getProperty().replaceAll("[^\\d.^\\/]", "");
+            String value = String.valueOf(controllableProperty.getValue());
+            switch (value){
+                case "1":
+                    requestedStates.put(portName, "true");
+                    break;
+                case "0":
+                    requestedStates.put(portName, "false");
+                    break;
+                default:
+                    logger.warn("NetGearCommunicator: Unexpected control value " + value + " for the port " + portName);
+                    break;
+            }
+        }
+        Map<String, List<String>> portsByState = new LinkedHashMap<>();
+        requestedStates.forEach((portName, state) -> portsByState.computeIfAbsent(state, key -> new ArrayList<>()).add(portName));
+        if(portsByState.isEmpty()){
+            return;
+        }
+
+        Map<String, Boolean> controlResults = new LinkedHashMap<>();
+        ControlWindowDebouncer debouncer = controlWindow;
+        if(debouncer != null){
+            debouncer.controlStarted();
+        }
+        try {
+            lockTelnetOperations();
+            try {
+                this.timeout = controlTelnetTimeout;
+                if(!enableTelnet()){
+                    return;
+                }
+                for(Map.Entry<String, List<String>> ports: portsByState.entrySet()){
+                    String command = Boolean.parseBoolean(ports.getKey()) ? "no shutdown" : "shutdown";
+                    for(InterfaceRange interfaceRange: InterfaceRange.coalesce(ports.getValue())){
+                        applyInterfaceRangeCommand(interfaceRange, command, ports.getKey(), controlResults);
+                    }
+                }
+            } finally {
+                this.timeout = statisticsTelnetTimeout;
+                telnetOperationsLock.unlock();
+            }
+        } finally {
+            if(debouncer != null){
+                debouncer.controlFinished();
+            }
+        }
+
+        List<String> failedPorts = new ArrayList<>();
+        controlResults.forEach((portName, succeeded) -> {
+            if(!succeeded){
+                failedPorts.add(portName);
+            }
+        });
+        if(!failedPorts.isEmpty()){
+            throw new CommandFailureException(host, "Port Controls", "Unable to control ports " + failedPorts);
+        }
+    }
 
-    private final ReentrantLock telnetOperationsLock = new ReentrantLock();
-    private ScheduledExecutorService statisticsExclusionScheduler = Executors.newScheduledThreadPool(1);
-    private ExtendedStatistics localStatistics;
+    /**
+     * Applies an interface command to the range of ports, falling back to per port commands if the range
+     * cannot be configured. Results are reported per port, successfully configured ports are updated within
+     * {@link #localStatistics} with the new state.
+     *
+     * @param interfaceRange ports to configure
+     * @param command interface configuration command
+     * @param portState port state to report if the command succeeds
+     * @param controlResults map to put port name:success values to
+     */
+    private void applyInterfaceRangeCommand(InterfaceRange interfaceRange, String command, String portState,
+                                            Map<String, Boolean> controlResults) throws Exception {
+        List<String> ports = interfaceRange.getPorts();
+        if(sendInterfaceCommand(interfaceRange.getName(), command)){
+            ports.forEach(portName -> reportPortControl(portName, portState, true, controlResults));
+            return;
+        }
+        if(ports.size() > 1){
+            logger.warn("NetGearCommunicator: Unable to configure interface range " + interfaceRange.getName() + ", switching to per port commands.");
+            for(String portName: ports){
+                reportPortControl(portName, portState, sendInterfaceCommand(portName, command), controlResults);
+            }
+        } else {
+            reportPortControl(ports.get(0), portState, false, controlResults);
+        }
+    }
 
-    public NetGearNASCommunicator(){
-        super();
-        this.setLoginPrompt("User:");
-        this.setPasswordPrompt("Password:");
-        this.setCommandSuccessList(Arrays.asList("\n","#","--More-- or (q)uit", "Config file 'startup-config' created successfully .", "Configuration Saved!", TELNET_UNSAVED_CHANGES_PROMPT, TELNET_STACK_RELOAD_PROMPT, "Password:")); //Would you like to save them now? (y/n)
-        this.setCommandErrorList(Arrays.asList("% Invalid input detected at '^' marker."));
-        this.setLoginSuccessList(Collections.singletonList(">"));
-        this.setOptionHandlers(Collections.singletonList(new EchoOptionHandler(true, true, true ,false)));
+    /**
+     * Saves port control result, and updates the port state within {@link #localStatistics} if the control
+     * has succeeded
+     *
+     * @param portName name of the port
+     * @param portState new port state
+     * @param succeeded whether the port has been configured successfully
+     * @param controlResults map to put port name:success value to
+     */
+    private void reportPortControl(String portName, String portState, boolean succeeded, Map<String, Boolean> controlResults) {
+        controlResults.put(portName, succeeded);
+        if(!succeeded){
+            logger.error("NetGearCommunicator: Unable to switch port " + portName + " of " + host + " to " + portState);
+            return;
+        }
+        runningConfigDigestTimestamp = 0;
+        StatisticsSnapshot snapshot = localStatistics;
+        if(snapshot != null){
+            localStatistics = snapshot.withControlValue("Port Controls#Port " + portName, portState);
+        }
     }
 
     /**
-     * Controls NetGear switch by implementing Stack Reload functionality and PoE ports startup/shutdown
+     * Enters the "enabled" mode, creates a channel if needed.
+     * Privileged, config and interface modes are all considered enabled, so no command is sent if the session is
+     * already in one of these modes.
+     *
+     * @return boolean value, indicating whether telnet has entered the enabled mode successfully
+     */
+    private boolean enableTelnet() throws Exception {
+        refreshTelnet();
+        if(cliMode == CliMode.PRIVILEGED || cliMode == CliMode.CONFIG || cliMode == CliMode.INTERFACE){
+            return true;
+        }
+        if(cliMode == CliMode.UNKNOWN){
+            internalSend("");
+        }
+        if(cliMode == CliMode.USER){
+            authenticationRefresh(internalSend("en"));
+        }
+        boolean telnetEnabled = cliMode == CliMode.PRIVILEGED;
+
+        if(!telnetEnabled){
+            logger.error("NetGearCommunicator: Telnet connection to " + host + " cannot be established");
+        }
+        return telnetEnabled;
+    }
+
+    /**
+     * Switches the CLI to the privileged mode, sending only the mode transition commands required,
+     * based on the current {@link #cliMode}
+     *
+     * @return boolean value, indicating whether telnet has entered the privileged mode successfully
+     */
+    private boolean enterPrivilegedMode() throws Exception {
+        if(!enableTelnet()){
+            return false;
+        }
+        // Modes are left one by one, since the response is complete on the first prompt received
+        if(cliMode == CliMode.INTERFACE){
+            internalSend("exit");
+        }
+        if(cliMode == CliMode.CONFIG){
+            internalSend("exit");
+        }
+        if(cliMode != CliMode.PRIVILEGED){
+            return false;
+        }
+        disablePagination();
+        return true;
+    }
+
+    /**
+     * Disables CLI pagination for the current session, so paginated responses are received with a single
+     * round-trip. If the firmware rejects the command - the pagination is handled by {@link #fetchPaginatedResponse(String)}
+     * page by page. Session failures (e.g. a read timeout) are rethrown, so the command is sent again by the next session.
+     */
+    private void disablePagination() throws Exception {
+        if(paginationDisabled || !paginationControlSupported){
+            return;
+        }
+        try {
+            String response = internalSend("terminal length 0");
+            paginationDisabled = !response.contains(TELNET_INVALID_INPUT);
+        } catch (CommandFailureException e) {
+            if(logger.isDebugEnabled()) {
+                logger.debug("NetGearCommunicator: Unable to disable CLI pagination: " + e.getMessage());
+            }
+            paginationDisabled = false;
+        }
+        if(!paginationDisabled){
+            logger.warn("NetGearCommunicator: CLI pagination cannot be disabled on " + host + ", falling back to page by page responses.");
+            paginationControlSupported = false;
+        }
+    }
+
+    /**
+     * Sends an interface configuration command, entering config and interface modes only if the session is not in
+     * the interface configuration mode for the same interface already. Mode transitions are sent one by one, and
+     * the command is sent only after the interface mode is entered, so it is never applied in a wrong mode if the
+     * interface is rejected.
+     *
+     * @param portName name of the interface or the interface range to configure
+     * @param command interface configuration command to send
+     * @return boolean value, indicating whether the command has been applied successfully
+     */
+    private boolean sendInterfaceCommand(String portName, String command) throws Exception {
+        try {
+            if(cliMode != CliMode.INTERFACE || !portName.equals(currentInterface)) {
+                if (cliMode == CliMode.INTERFACE) {
+                    internalSend("exit");
+                } else if (cliMode != CliMode.CONFIG) {
+                    internalSend("config");
+                }
+                internalSend("interface " + portName);
+                if(cliMode != CliMode.INTERFACE || !portName.equals(currentInterface)){
+                    return false;
+                }
+            }
+            internalSend(command);
+            return true;
+        } catch (CommandFailureException e) {
+            if(logger.isDebugEnabled()) {
+                logger.debug("NetGearCommunicator: Interface " + portName + " command \"" + command + "\" failed: " + e.getMessage());
+            }
+            // The CLI mode is not tracked for failed commands, so it is refreshed based on the current prompt
+            internalSend("");
+            return false;
+        }
+    }
+
+    /**
+     * Refreshes telnet status, creates a channel if no channel is connected at the moment.
+     * If the session is kept alive between polls - it is checked for liveness first, and re-created only
+     * if it's stale or dead.
+     */
+    private void refreshTelnet() throws Exception {
+        if(keepAliveSession && isChannelConnected() && !isSessionAlive()){
+            if(logger.isDebugEnabled()) {
+                logger.debug("NetGearCommunicator: Telnet session to " + host + " is stale, reconnecting.");
+            }
+            disconnect();
+            if(performanceMetrics){
+                metrics.recordReconnect();
+            }
+        }
+        if(!isChannelConnected()){
+            cliMode = CliMode.UNKNOWN;
+            long startTime = metricsStartTime();
+            connect();
+            if(performanceMetrics){
+                metrics.recordConnect(startTime);
+            }
+            cliMode = CliMode.USER;
+            lastSessionActivity = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Checks whether the kept-alive session is still usable: it has to be used within {@link #sessionIdleTimeout}
+     * and respond to an empty line with a CLI prompt. Sessions used less than {@link #sessionProbeThreshold} ago
+     * are considered alive without the probe.
+     *
+     * @return boolean value, indicating whether the current session can be reused
+     */
+    private boolean isSessionAlive() {
+        long idleTime = System.currentTimeMillis() - lastSessionActivity;
+        if(idleTime > sessionIdleTimeout){
+            return false;
+        }
+        if(idleTime < sessionProbeThreshold){
+            return true;
+        }
+        try {
+            String response = internalSend("");
+            return response.endsWith("#") || response.endsWith(">");
+        } catch (Exception e) {
+            if(logger.isDebugEnabled()) {
+                logger.debug("NetGearCommunicator: Liveness probe failed: " + e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Keeps track of the CLI mode based on the prompt received and the session activity time, so the session
+     * state can be evaluated on the next call. If {@link #adaptiveTimeouts} are enabled - the command is sent
+     * with the timeout derived from its latencies observed, limited by the current timeout.
      */
     @Override
-    public void controlProperty(ControllableProperty controllableProperty) throws Exception {
-        String property = controllableProperty.getProperty();
-        String value = String.valueOf(controllableProperty.getValue());
+    protected String internalSend(String command) throws Exception {
+        long startTime = metricsStartTime();
+        String response;
+        if(adaptiveTimeouts && expectedBatchPrompts == 0){
+            response = sendWithAdaptiveTimeout(command);
+        } else {
+            response = sendCommand(command);
+        }
+        if(performanceMetrics){
+            metrics.recordCommand(commandMetricName(command), startTime, response.length());
+        }
+        lastSessionActivity = System.currentTimeMillis();
+        CliMode responseMode = CliMode.fromResponse(response);
+        if(responseMode != CliMode.UNKNOWN){
+            cliMode = responseMode;
+            currentInterface = responseMode == CliMode.INTERFACE ? CliMode.interfaceName(response) : null;
+        }
+        if(responseMode == CliMode.PRIVILEGED){
+            privilegedPrompt = response.substring(response.lastIndexOf('\n') + 1);
+        }
+        return response;
+    }
 
-        telnetOperationsLock.lock();
+    /**
+     * Sends the command with the adaptive timeout, tracking the command latency. Timed out commands are tracked
+     * with the latency of the timeout, so the timeout is raised for the subsequent commands.
+     *
+     * @param command command to send
+     * @return command response
+     */
+    private String sendWithAdaptiveTimeout(String command) throws Exception {
+        String commandName = commandMetricName(command);
+        int commandTimeout = timeout;
+        timeout = commandTimeoutTracker.timeout(commandName, commandTimeout, minAdaptiveTimeout, adaptiveTimeoutMultiplier);
+        long startTime = System.currentTimeMillis();
         try {
-            this.timeout = controlTelnetTimeout;
-            if(!enableTelnet()){
-                return;
+            String response = sendCommand(command);
+            commandTimeoutTracker.record(commandName, System.currentTimeMillis() - startTime);
+            return response;
+        } catch (IOException e) {
+            commandTimeoutTracker.record(commandName, System.currentTimeMillis() - startTime);
+            throw e;
+        } finally {
+            timeout = commandTimeout;
+        }
+    }
+
+    /**
+     * Sends the command over the current {@link #telnetTransport}
+     *
+     * @param command command to send
+     * @return command response
+     */
+    private String sendCommand(String command) throws Exception {
+        if(nioTelnetSession != null){
+            write(command);
+            return nioTelnetSession.read(data -> doneReading(command, data), timeout, command);
+        }
+        return super.internalSend(command);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * When a commands batch is sent - the response is complete only when the privileged prompt is received
+     * once per command in the batch. Each command has to be responded to within {@link #batchCommandTimeout}.
+     */
+    @Override
+    protected boolean doneReading(String command, String response) throws CommandFailureException {
+        if(expectedBatchPrompts == 0){
+            return super.doneReading(command, response);
+        }
+        int promptIndex;
+        while ((promptIndex = response.indexOf(privilegedPrompt, batchScanIndex)) >= 0) {
+            batchScanIndex = promptIndex + privilegedPrompt.length();
+            receivedBatchPrompts++;
+            batchSegmentStartTime = System.currentTimeMillis();
+        }
+        if(receivedBatchPrompts >= expectedBatchPrompts){
+            return true;
+        }
+        if(System.currentTimeMillis() - batchSegmentStartTime > batchCommandTimeout){
+            throw new CommandFailureException(host, command, "Batch command response timeout");
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Resets the tracked CLI mode, since the new channel starts with the login sequence.
+     */
+    @Override
+    protected void destroyChannel() {
+        cliMode = CliMode.UNKNOWN;
+        currentInterface = null;
+        privilegedPrompt = null;
+        paginationDisabled = false;
+        if(nioTelnetSession != null){
+            try {
+                nioTelnetSession.close();
+            } catch (IOException e) {
+                logger.warn("NetGearCommunicator: Unable to close telnet session to " + host, e);
             }
+            nioTelnetSession = null;
+        }
+        super.destroyChannel();
+    }
 
-            if (property.equals("Reload")) {
-                reloadStack();
-            } else if (property.startsWith("Port")) {
-                String portName = property.replaceAll("[^\\d.^\\/]", "");;
-                switch (value){
-                    case "1":
-                        startupPortSequence(portName);
-                        break;
-                    case "0":
-                        shutdownPortSequence(portName);
-                        break;
-                    default:
-                        logger.warn("NetGearCommunicator: Unexpected control value " + value + " for the port " + portName);
-                        break;
+    /**
+     * {@inheritDoc}
+     *
+     * Opens {@link NioTelnetSession} if the "NIO" {@link #telnetTransport} is used.
+     */
+    @Override
+    protected void createChannel() throws Exception {
+        if(!TELNET_TRANSPORT_NIO.equalsIgnoreCase(telnetTransport)){
+            super.createChannel();
+            return;
+        }
+        if(nioTelnetSession != null){
+            nioTelnetSession.close();
+        }
+        nioTelnetSession = NioTelnetSession.open(host, getPort(), timeout);
+        login();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Follows the same login sequence over {@link NioTelnetSession} if the "NIO" {@link #telnetTransport} is used:
+     * the login and password are sent once each, on the respective prompts.
+     */
+    @Override
+    protected void login() throws Exception {
+        if(nioTelnetSession == null){
+            super.login();
+            return;
+        }
+        boolean loginSent = false;
+        boolean passwordSent = false;
+        while (true) {
+            String response = nioTelnetSession.read(this::doneReadingAfterConnect, timeout, null);
+            if(response.endsWith(getLoginPrompt())){
+                if(loginSent || StringUtils.isNullOrEmpty(getLogin(), true)){
+                    throw new FailedLoginException("Login failed: " + response);
                 }
+                write(getLogin());
+                loginSent = true;
+            } else if(response.endsWith(getPasswordPrompt())){
+                if(passwordSent || StringUtils.isNullOrEmpty(getPassword(), true)){
+                    throw new FailedLoginException("Login failed: " + response);
+                }
+                write(getPassword());
+                passwordSent = true;
             } else {
-                logger.info("NetGearCommunicator: Command " + property + " is not implemented. Skipping.");
+                return;
             }
-        } finally {
-            this.timeout = statisticsTelnetTimeout;
-            telnetOperationsLock.unlock();
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Writes the data over {@link NioTelnetSession} if the "NIO" {@link #telnetTransport} is used, with the same
+     * line ending conversion.
+     */
     @Override
-    public void controlProperties(List<ControllableProperty> controllablePropertyList) throws Exception {
-        if (CollectionUtils.isEmpty(controllablePropertyList)) {
-            throw new IllegalArgumentException("NetGearCommunicator: Controllable properties cannot be null or empty");
+    protected void write(String data) throws Exception {
+        if(nioTelnetSession == null){
+            super.write(data);
+            return;
         }
+        String line;
+        if(data.endsWith("\r\n")){
+            line = data;
+        } else if(data.endsWith("\r")){
+            line = data + "\n";
+        } else if(data.endsWith("\n")){
+            line = data.replace("\n", "\r\n");
+        } else {
+            line = data + "\r\n";
+        }
+        nioTelnetSession.write(line);
+    }
 
-        for(ControllableProperty controllableProperty: controllablePropertyList){
-            controlProperty(controllableProperty);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isChannelConnected() {
+        if(nioTelnetSession != null){
+            return nioTelnetSession.isOpen();
         }
+        return super.isChannelConnected();
     }
 
     /**
-     * Enters the "enabled" mode, creates a channel if needed
+     * Refreshes authentication with a given password, based on a previous response (since we may receive a password
+     * prompt outside of the "login" sequence, but just because we are requesting specific protected pieces of the
+     * data/functionality)
      *
-     * @return boolean value, indicating whether telnet has entered the enabled mode successfully
+     * @param response telnet response to check for the prompt before sending the password
+     * @return either the password input response or the input string.
      */
-    private boolean enableTelnet() throws Exception {
-        refreshTelnet();
-        String response = internalSend("en");
-        boolean telnetEnabled = authenticationRefresh(response).endsWith("#");
+    private String authenticationRefresh(String response) throws Exception {
+        if(response.endsWith("Password:")){
+            return internalSend(getPassword());
+        }
+        return response;
+    }
 
-        if(!telnetEnabled){
-            logger.error("NetGearCommunicator: Telnet connection to " + host + " cannot be established");
+    /**
+     * {@inheritDoc}
+     *
+     * If {@link #circuitBreakerThreshold} consecutive telnet polls have failed - the last statistics collected are
+     * reported with the stale marker, and the switch is polled again once it's reachable, after
+     * {@link #circuitBreakerOpenPeriod}.
+     * While the stack is reloading - the last statistics collected are reported as well, and the statistics
+     * refreshed by {@link #reloadMonitor} as soon as the CLI is available are reported by the next call.
+     * If {@link #fleetScheduling} is enabled - the result of the last background collection is reported.
+     */
+    @Override
+    public List<Statistics> getMultipleStatistics() throws Exception {
+        if(fleetRegistration != null){
+            return Collections.singletonList(retrieveFleetStatistics());
         }
-        return telnetEnabled;
+        return Collections.singletonList(collectStatistics());
+    }
+
+    /**
+     * Collects statistics with the configured collection mode, taking the stack reload and the circuit breaker
+     * into account
+     *
+     * @return device statistics
+     */
+    private ExtendedStatistics collectStatistics() throws Exception {
+        if(STATISTICS_COLLECTION_MODE_SNMP.equalsIgnoreCase(statisticsCollectionMode)){
+            return collectSnmpStatistics();
+        }
+        ReloadMonitor monitor = reloadMonitor;
+        StatisticsSnapshot snapshot = localStatistics;
+        if(monitor != null && snapshot != null){
+            if(monitor.isReloading()){
+                return retrieveReloadingStatistics(snapshot, monitor);
+            }
+            if(monitor.consumeRefreshedStatistics()){
+                return snapshot.toExtendedStatistics();
+            }
+        }
+        if(circuitBreakerThreshold <= 0){
+            return collectTelnetStatistics();
+        }
+        if(circuitBreaker.isOpen() && !probeDevice()){
+            return retrieveStaleStatistics(null);
+        }
+        try {
+            ExtendedStatistics statistics = collectTelnetStatistics();
+            circuitBreaker.recordSuccess();
+            return statistics;
+        } catch (Exception e) {
+            if(!circuitBreaker.recordFailure(circuitBreakerThreshold)){
+                throw e;
+            }
+            logger.warn("NetGearCommunicator: Statistics poll of " + host + " has failed " + circuitBreakerThreshold
+                    + " or more times in a row, reporting the last statistics collected: " + e.getMessage());
+            return retrieveStaleStatistics(e);
+        }
+    }
+
+    /**
+     * Collects statistics in the background, called by {@link NetGearFleetScheduler}. The failure is kept, to be
+     * reported by the next {@link #getMultipleStatistics()} call.
+     */
+    private void collectFleetStatistics() {
+        try {
+            ExtendedStatistics statistics = collectStatistics();
+            fleetCollectionResult = new FleetCollectionResult(statistics, localStatistics, null);
+        } catch (Exception e) {
+            logger.warn("NetGearCommunicator: Background statistics collection of " + host + " has failed: " + e.getMessage());
+            fleetCollectionResult = new FleetCollectionResult(null, null, e);
+        }
+    }
+
+    /**
+     * Retrieves the result of the last background statistics collection, with the fleet scheduler metrics.
+     * The statistics are collected on the calling thread, if no background collection is completed yet.
+     * If a control action has been applied since the collection - the controls state is reported.
+     *
+     * @return device statistics
+     */
+    private ExtendedStatistics retrieveFleetStatistics() throws Exception {
+        NetGearFleetScheduler scheduler = fleetRegistration.getScheduler();
+        FleetCollectionResult result = fleetCollectionResult;
+        if(result == null){
+            ExtendedStatistics statistics = scheduler.call(retrieveFleetSessionsCount(), this::collectStatistics);
+            result = new FleetCollectionResult(statistics, localStatistics, null);
+            fleetCollectionResult = result;
+        }
+        if(result.failure != null){
+            throw result.failure;
+        }
+        StatisticsSnapshot snapshot = localStatistics;
+        ExtendedStatistics statistics = snapshot != null && snapshot != result.snapshot ? snapshot.toExtendedStatistics() : result.statistics;
+        Map<String, String> statisticsMap = new LinkedHashMap<>(statistics.getStatistics());
+        statisticsMap.put("Performance#Fleet Collection Offset (ms)", String.valueOf(fleetRegistration.getOffset()));
+        statisticsMap.put("Performance#Fleet Registered Devices", String.valueOf(scheduler.getRegisteredDevices()));
+        statisticsMap.put("Performance#Fleet Active Sessions", String.valueOf(scheduler.getActiveSessions()));
+        statisticsMap.put("Performance#Fleet Queue Depth", String.valueOf(scheduler.getQueueDepth()));
+        statisticsMap.put("Performance#Fleet Max Queue Depth", String.valueOf(scheduler.getMaxQueueDepth()));
+        statisticsMap.put("Performance#Fleet Average Lag (ms)", String.valueOf(scheduler.getAverageLag()));
+        statisticsMap.put("Performance#Fleet Max Lag (ms)", String.valueOf(scheduler.getMaxLag()));
+        statisticsMap.put("Performance#Fleet Skipped Collections", String.valueOf(scheduler.getSkippedCollections()));
+        ExtendedStatistics fleetStatistics = new ExtendedStatistics();
+        fleetStatistics.setStatistics(statisticsMap);
+        fleetStatistics.setControllableProperties(statistics.getControllableProperties());
+        return fleetStatistics;
+    }
+
+    /**
+     * Retrieves number of telnet sessions a statistics collection uses
+     *
+     * @return number of telnet sessions
+     */
+    private int retrieveFleetSessionsCount() {
+        if(STATISTICS_COLLECTION_MODE_SNMP.equalsIgnoreCase(statisticsCollectionMode)){
+            return 1;
+        }
+        return Math.max(1, Math.min(parallelSessions, maxTelnetSessions));
+    }
+
+    /**
+     * Checks whether the switch has to be polled while the circuit breaker is open: the open period has to pass,
+     * and the switch has to respond to ICMP ping, or accept a connection to the telnet port if ICMP is blocked.
+     * Failed probe opens the circuit breaker for another period.
+     *
+     * @return true if the switch has to be polled
+     */
+    private boolean probeDevice() {
+        if(!circuitBreaker.isProbeDue(circuitBreakerOpenPeriod)){
+            return false;
+        }
+        boolean reachable = isDeviceReachable();
+        if(!reachable){
+            circuitBreaker.recordFailure(circuitBreakerThreshold);
+        }
+        return reachable;
+    }
+
+    /**
+     * Checks whether the switch responds to ICMP ping, or accepts a connection to the telnet port if ICMP is blocked
+     *
+     * @return true if the switch is reachable
+     */
+    private boolean isDeviceReachable() {
+        boolean reachable;
+        try {
+            reachable = ping() < getPingTimeout();
+        } catch (Exception e) {
+            if(logger.isDebugEnabled()) {
+                logger.debug("NetGearCommunicator: ICMP probe of " + host + " failed: " + e.getMessage());
+            }
+            reachable = false;
+        }
+        if(!reachable){
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress(host, getPort()), getPingTimeout());
+                reachable = true;
+            } catch (IOException e) {
+                if(logger.isDebugEnabled()) {
+                    logger.debug("NetGearCommunicator: Telnet port probe of " + host + " failed: " + e.getMessage());
+                }
+            }
+        }
+        return reachable;
+    }
+
+    /**
+     * Refreshes statistics once the reloaded switch is reachable. Fails until the CLI is available.
+     *
+     * @param reloadDuration time (ms) passed since the reload confirmation
+     * @return true if the statistics are collected
+     */
+    private boolean refreshAfterReload(long reloadDuration) {
+        lastReloadDuration = reloadDuration;
+        try {
+            collectTelnetStatistics();
+            circuitBreaker.recordSuccess();
+            return true;
+        } catch (Exception e) {
+            if(logger.isDebugEnabled()) {
+                logger.debug("NetGearCommunicator: " + host + " is not available after reload yet: " + e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Retrieves the last statistics collected with the reload status, while the stack is reloading
+     *
+     * @param snapshot last statistics snapshot
+     * @param monitor reload monitor
+     * @return device statistics
+     */
+    private ExtendedStatistics retrieveReloadingStatistics(StatisticsSnapshot snapshot, ReloadMonitor monitor) {
+        Map<String, String> statisticsMap = new LinkedHashMap<>(snapshot.getStatistics());
+        statisticsMap.put("AdapterMetadata#Reload Status", "Reloading since " + new Date(monitor.getReloadStartTime()));
+        ExtendedStatistics statistics = snapshot.toExtendedStatistics();
+        statistics.setStatistics(statisticsMap);
+        return statistics;
     }
 
     /**
-     * Refreshes telnet status, creates a channel if no channel is connected at the moment
+     * Retrieves the last statistics collected with the stale marker, while the circuit breaker is open
+     *
+     * @param failure poll failure that has opened the circuit breaker, rethrown if no statistics are collected yet
+     * @return device statistics
      */
-    private void refreshTelnet() throws Exception {
-        if(!isChannelConnected()){
-            connect();
+    private ExtendedStatistics retrieveStaleStatistics(Exception failure) throws Exception {
+        StatisticsSnapshot snapshot = localStatistics;
+        if(snapshot == null){
+            if(failure != null){
+                throw failure;
+            }
+            throw new RuntimeException("Switch " + host + " is unreachable since " + new Date(circuitBreaker.getOpenedTimestamp()));
         }
+        Map<String, String> statisticsMap = new LinkedHashMap<>(snapshot.getStatistics());
+        statisticsMap.put("AdapterMetadata#Stale Statistics", "true");
+        statisticsMap.put("AdapterMetadata#Unreachable Since", new Date(circuitBreaker.getOpenedTimestamp()).toString());
+        ExtendedStatistics statistics = snapshot.toExtendedStatistics();
+        statistics.setStatistics(statisticsMap);
+        return statistics;
     }
 
     /**
-     * Refreshes authentication with a given password, based on a previous response (since we may receive a password
-     * prompt outside of the "login" sequence, but just because we are requesting specific protected pieces of the
-     * data/functionality)
+     * Collects statistics over telnet, or reports the last statistics collected while the control window is open
      *
-     * @param response telnet response to check for the prompt before sending the password
-     * @return either the password input response or the input string.
+     * @return device statistics
      */
-    private String authenticationRefresh(String response) throws Exception {
-        if(response.endsWith("Password:")){
-            return internalSend(getPassword());
+    private ExtendedStatistics collectTelnetStatistics() throws Exception {
+        StatisticsSnapshot snapshot = localStatistics;
+        if(isControlWindowActive() && snapshot != null){
+            return retrieveLocalStatistics(snapshot);
         }
-        return response;
-    }
+        ExtendedStatistics statistics;
 
-    @Override
-    public List<Statistics> getMultipleStatistics() throws Exception {
-        ExtendedStatistics statistics = new ExtendedStatistics();
-
-        telnetOperationsLock.lock();
+        boolean keepSession = false;
+        lockTelnetOperations();
         try {
-            if(isOccupiedByControl && localStatistics != null){
-                if(logger.isInfoEnabled()) {
-                    logger.info("NetGearCommunicator: Device is in reboot or occupied. Skipping statistics refresh call.");
-                }
-                statistics.setStatistics(localStatistics.getStatistics());
-                statistics.setControllableProperties(localStatistics.getControllableProperties());
-                return Collections.singletonList(statistics);
+            snapshot = localStatistics;
+            if(isControlWindowActive() && snapshot != null){
+                keepSession = keepAliveSession;
+                return retrieveLocalStatistics(snapshot);
             }
 
             LinkedHashMap<String, String> statisticsMap = new LinkedHashMap<>();
-            if(!enableTelnet()){
+            fetchedPagesCount.clear();
+            long connectStartTime = System.currentTimeMillis();
+            if(!enterPrivilegedMode()){
                 throw new RuntimeException("Unable to establish a telnet communication session");
             }
+            long commandStartTime = System.currentTimeMillis();
 
-            String ipManagementData = internalSend("show ip management");
-            String poeData = internalSend("show poe");
-            String interfaceSwitchport = internalSend("show interface switchport");
-            String environmentData = fetchPaginatedResponse("show environment");
-            String interfacesPacketData = fetchPaginatedResponse("show interface ethernet all | exclude lag");
-            String ports = fetchPaginatedResponse("show port status all | exclude lag");
-
-            statisticsMap.putAll(extractTelnetResponseProperties(ipManagementData, "\\.{2,}"));
-            statisticsMap.putAll(extractTelnetResponseProperties(poeData, "\\.{2,}"));
+            boolean refreshIpManagement = ipManagementCache.isRefreshRequired(1, ipManagementPollingInterval);
+            boolean refreshEnvironment = environmentCache.isRefreshRequired(environmentPollingCycle, 0);
+            RunningConfigDigest configDigest = configChangeDetection
+                    && System.currentTimeMillis() - runningConfigDigestTimestamp >= configDigestPollingInterval ? new RunningConfigDigest() : null;
 
+            Map<String, String> ipManagementData = new LinkedHashMap<>();
+            Map<String, String> poeData = new LinkedHashMap<>();
+            Map<String, String> poePortData = new LinkedHashMap<>();
+            Map<String, String> interfaceSwitchport = new HashMap<>();
+            Map<String, String> environmentStatus = new HashMap<>();
+            Map<String, String> interfacesData = new HashMap<>();
             Map<String, String> activePortData = new HashMap<>();
-            extractPortStatus(activePortData, ports);
+
+            Map<String, Supplier<NetGearResponseParser.LineParser>> parsers = new LinkedHashMap<>();
+            if(refreshIpManagement){
+                parsers.put(IP_MANAGEMENT_COMMAND, parserFactory(ipManagementData, NetGearResponseParser::dotLeaderPropertiesParser));
+            }
+            parsers.put(POE_COMMAND, parserFactory(poeData, NetGearResponseParser::dotLeaderPropertiesParser));
+            if(poePortStatistics){
+                parsers.put(POE_PORT_COMMAND, parserFactory(poePortData, NetGearResponseParser::poePortStatusParser));
+            }
+            parsers.put(INTERFACE_SWITCHPORT_COMMAND, parserFactory(interfaceSwitchport, NetGearResponseParser::dotLeaderPropertiesParser));
+            if(refreshEnvironment){
+                parsers.put(ENVIRONMENT_COMMAND, parserFactory(environmentStatus, NetGearResponseParser::environmentStatusParser));
+            }
+            parsers.put(INTERFACE_ETHERNET_COMMAND, parserFactory(interfacesData, NetGearResponseParser::portStatisticsParser));
+            parsers.put(PORT_STATUS_COMMAND, parserFactory(activePortData, NetGearResponseParser::portStatusParser));
+            if(configDigest != null){
+                parsers.put(RUNNING_CONFIG_COMMAND, () -> {
+                    configDigest.reset();
+                    return configDigest;
+                });
+            }
+
+            fetchParallelParsedResponses(parsers);
+            long commandEndTime = System.currentTimeMillis();
+
+            if(refreshIpManagement){
+                ipManagementCache.update(ipManagementData);
+            } else {
+                skipStatisticsGroupRefresh(ipManagementCache, IP_MANAGEMENT_COMMAND);
+            }
+            statisticsMap.putAll(ipManagementCache.getStatistics());
+            statisticsMap.putAll(poeData);
+            statisticsMap.putAll(poePortData);
 
             Map<String, String> packetsData = new HashMap<>();
             extractGeneralPacketsData(packetsData, interfaceSwitchport);
+            calculateCounterRates(interfacesData, packetsData, PortCounterRateTracker.COUNTER_32_BITS);
 
-            Map<String, String> interfacesData = new HashMap<>();
-            extractPortStatistics(interfacesData, interfacesPacketData);
+            if(refreshEnvironment){
+                environmentCache.update(environmentStatus);
+            } else {
+                skipStatisticsGroupRefresh(environmentCache, ENVIRONMENT_COMMAND);
+            }
 
-            Map<String, String> portControlledProperties = new HashMap<>();
-            generatePortControlledProperties(portControlledProperties, activePortData);
+            if(performanceMetrics || keepAliveSession){
+                // the connect time of the polls over the kept alive session shows the time saved by the session reuse
+                statisticsMap.put("Performance#Connect Time (ms)", String.valueOf(commandStartTime - connectStartTime));
+                statisticsMap.put("Performance#Command Time (ms)", String.valueOf(commandEndTime - commandStartTime));
+            }
+            if(performanceMetrics){
+                fetchedPagesCount.forEach((command, pages) -> statisticsMap.put("Performance#Pages Fetched (" + command + ")", String.valueOf(pages)));
+                statisticsMap.putAll(metrics.toStatistics("Performance#"));
+            }
+            boolean configChanged = !configChangeDetection || updateRunningConfigDigest(configDigest);
+            statistics = buildStatistics(statisticsMap, activePortData, interfacesData, packetsData, configChanged);
+            keepSession = keepAliveSession;
+        } finally {
+            try{
+                if(!keepSession) {
+                    disconnect();
+                }
+            } finally {
+                telnetOperationsLock.unlock();
+            }
+        }
 
-            Map<String, String> environmentStatus = new HashMap<>();
-            extractEnvironmentStatus(environmentStatus, environmentData);
+        return statistics;
+    }
+
+    /**
+     * Collects statistics over SNMP. The telnet session is used only if "show ip management" data has to be
+     * refreshed, since it is not covered by the SNMP collector.
+     *
+     * @return device statistics
+     */
+    private ExtendedStatistics collectSnmpStatistics() throws Exception {
+        StatisticsSnapshot snapshot = localStatistics;
+        if(isControlWindowActive() && snapshot != null){
+            return retrieveLocalStatistics(snapshot);
+        }
+
+        if(ipManagementCache.isRefreshRequired(1, ipManagementPollingInterval)){
+            refreshIpManagementData();
+        } else {
+            skipStatisticsGroupRefresh(ipManagementCache, IP_MANAGEMENT_COMMAND);
+        }
 
-            portControlledProperties.put("Reload", "");
+        long snmpStartTime = System.currentTimeMillis();
+        NetGearSnmpStatisticsCollector collector = getSnmpStatisticsCollector();
 
-            statisticsMap.putAll(environmentStatus);
-            statisticsMap.putAll(portControlledProperties);
-            statisticsMap.putAll(interfacesData);
-            statisticsMap.putAll(packetsData);
-            statistics.setStatistics(statisticsMap);
+        LinkedHashMap<String, String> statisticsMap = new LinkedHashMap<>(ipManagementCache.getStatistics());
+        statisticsMap.putAll(collector.collectPoeStatus());
 
-            statistics.setControllableProperties(createAdvancedControls(activePortData));
-            localStatistics = statistics;
+        Map<String, String> activePortData = new HashMap<>();
+        Map<String, String> interfacesData = new HashMap<>();
+        Map<String, String> packetsData = new HashMap<>();
+        collector.collectInterfaces(activePortData, interfacesData, packetsData);
+        calculateCounterRates(interfacesData, packetsData, NetGearSnmpStatisticsCollector.COUNTER_WIDTH);
+
+        if(environmentCache.isRefreshRequired(environmentPollingCycle, 0)){
+            environmentCache.update(collector.collectEnvironmentStatus());
+        } else {
+            skipStatisticsGroupRefresh(environmentCache, ENVIRONMENT_COMMAND);
+        }
+
+        if(performanceMetrics){
+            statisticsMap.put("Performance#SNMP Collection Time (ms)", String.valueOf(System.currentTimeMillis() - snmpStartTime));
+            statisticsMap.putAll(metrics.toStatistics("Performance#"));
+        }
+        return buildStatistics(statisticsMap, activePortData, interfacesData, packetsData, true);
+    }
+
+    /**
+     * Refreshes "show ip management" data over telnet. Failure to do so is not critical for the SNMP statistics
+     * collection, so the previously retrieved data is used in this case.
+     */
+    private void refreshIpManagementData() throws Exception {
+        boolean keepSession = false;
+        lockTelnetOperations();
+        try {
+            if(enterPrivilegedMode()){
+                ipManagementCache.update(extractTelnetResponseProperties(fetchPaginatedResponse(IP_MANAGEMENT_COMMAND)));
+                keepSession = keepAliveSession;
+            }
+        } catch (Exception e) {
+            logger.warn("NetGearCommunicator: Unable to retrieve IP management data from " + host + ": " + e.getMessage());
         } finally {
             try{
-                disconnect();
+                if(!keepSession) {
+                    disconnect();
+                }
             } finally {
                 telnetOperationsLock.unlock();
             }
         }
+    }
+
+    /**
+     * Retrieves SNMP statistics collector, creates one if it's not created yet
+     *
+     * @return {@link NetGearSnmpStatisticsCollector} instance
+     */
+    private synchronized NetGearSnmpStatisticsCollector getSnmpStatisticsCollector() throws Exception {
+        if(snmpStatisticsCollector == null){
+            snmpStatisticsCollector = new NetGearSnmpStatisticsCollector("udp:" + host + "/" + getSnmpPort(), getSnmpCommunity(),
+                    getSnmpVersion(), getSnmpTimeout(), getSnmpAttempts());
+        }
+        return snmpStatisticsCollector;
+    }
+
+    /**
+     * Creates statistics based on the data collected, and publishes an immutable copy of it as {@link #localStatistics}
+     *
+     * @param statisticsMap statistics map, containing general switch data
+     * @param activePortData map containing ports information (Name/Status)
+     * @param interfacesData ports packets statistics
+     * @param packetsData total packets statistics
+     * @param configChanged whether the switch configuration may have changed since the previous snapshot, so the
+     * port controls have to be rebuilt
+     * @return device statistics
+     */
+    private ExtendedStatistics buildStatistics(Map<String, String> statisticsMap, Map<String, String> activePortData,
+                                               Map<String, String> interfacesData, Map<String, String> packetsData,
+                                               boolean configChanged) {
+        StatisticsSnapshot previousSnapshot = localStatistics;
+        Map<String, String> portControlledProperties = new HashMap<>();
+        List<AdvancedControllableProperty> controls = configChanged ? null : updatePortControls(activePortData, previousSnapshot, portControlledProperties);
+        if(controls == null){
+            portControlledProperties.clear();
+            generatePortControlledProperties(portControlledProperties, activePortData);
+            controls = createAdvancedControls(activePortData, previousSnapshot);
+        }
+        portControlledProperties.put("Reload", "");
+
+        statisticsMap.putAll(environmentCache.getStatistics());
+        if(lastReloadDuration >= 0){
+            statisticsMap.put("AdapterMetadata#Last Reload Duration (s)", String.valueOf(TimeUnit.MILLISECONDS.toSeconds(lastReloadDuration)));
+        }
+        statisticsMap.putAll(portControlledProperties);
+        statisticsMap.putAll(interfacesData);
+        statisticsMap.putAll(packetsData);
+
+        StatisticsSnapshot snapshot = new StatisticsSnapshot(statisticsMap, controls, previousSnapshot);
+        localStatistics = snapshot;
+        return snapshot.toExtendedStatistics();
+    }
+
+    /**
+     * Replaces the "show running-config" digest with the one retrieved by the current poll
+     *
+     * @param configDigest digest retrieved by the current poll, or null if the digest is not refreshed by the poll
+     * @return true if the configuration has changed, or the digest is retrieved for the first time
+     */
+    private boolean updateRunningConfigDigest(RunningConfigDigest configDigest) {
+        if(configDigest == null){
+            return runningConfigDigest == null;
+        }
+        String digest = configDigest.getDigest();
+        runningConfigDigestTimestamp = System.currentTimeMillis();
+        if(digest == null || digest.equals(runningConfigDigest)){
+            return digest == null;
+        }
+        if(runningConfigDigest != null && logger.isInfoEnabled()){
+            logger.info("NetGearCommunicator: Running configuration of " + host + " has changed, rebuilding port controls.");
+        }
+        runningConfigDigest = digest;
+        return true;
+    }
+
+    /**
+     * Retrieves names of the statistics entries changed by the last statistics cycle or control action, compared
+     * to the statistics reported before. Statistics and controllable properties that haven't changed are shared
+     * between the statistics cycles.
+     *
+     * @return set of the statistics names, empty if no statistics are collected yet
+     */
+    public Set<String> getChangedStatisticsKeys() {
+        StatisticsSnapshot snapshot = localStatistics;
+        return snapshot == null ? Collections.emptySet() : snapshot.getChangedKeys();
+    }
+
+    /**
+     * Retrieves the last statistics collected, when the device is occupied by controls
+     *
+     * @param snapshot last statistics snapshot
+     * @return device statistics
+     */
+    private ExtendedStatistics retrieveLocalStatistics(StatisticsSnapshot snapshot) {
+        if(logger.isInfoEnabled()) {
+            logger.info("NetGearCommunicator: Device is in reboot or occupied. Skipping statistics refresh call.");
+        }
+        return snapshot.toExtendedStatistics();
+    }
+
+    /**
+     * Checks whether a control window is open, so the statistics refresh has to be skipped
+     *
+     * @return true if control actions are in progress or have finished less than {@link #controlQuietPeriod} ago
+     */
+    private boolean isControlWindowActive() {
+        ControlWindowDebouncer debouncer = controlWindow;
+        return debouncer != null && debouncer.isActive();
+    }
+
+    /**
+     * Marks the statistics group as skipped for the current statistics cycle, so the cached values are used
+     *
+     * @param statisticsGroupCache cached statistics group
+     * @param command command that is used to retrieve the statistics group
+     */
+    private void skipStatisticsGroupRefresh(StatisticsGroupCache statisticsGroupCache, String command) {
+        statisticsGroupCache.skip();
+        if(logger.isDebugEnabled()) {
+            logger.debug("NetGearCommunicator: Skipping \"" + command + "\", using data retrieved at " + new Date(statisticsGroupCache.getLastRefreshTimestamp()));
+        }
+    }
 
-        return Collections.singletonList(statistics);
+    /**
+     * Adds per second rates of the ports and total packet counters, if {@link #counterRates} is enabled
+     *
+     * @param interfacesData ports packets statistics, port rates are added to
+     * @param packetsData total packets statistics, total rates are added to
+     * @param counterWidth width of the counters, as retrieved by the collection mode
+     */
+    private void calculateCounterRates(Map<String, String> interfacesData, Map<String, String> packetsData, int counterWidth) {
+        if(!counterRates){
+            return;
+        }
+        Map<String, String> rates = new HashMap<>();
+        portCounterRateTracker.update(interfacesData, packetsData, counterWidth, System.currentTimeMillis(), rates);
+        rates.forEach((name, rate) -> {
+            if(name.startsWith(PortCounterRateTracker.PORT_STATISTICS_PREFIX)){
+                interfacesData.put(name, rate);
+            } else {
+                packetsData.put(name, rate);
+            }
+        });
     }
 
     /**
      * Extracts general packets statistics for the switch.
      *
-     * @param interfaceSwitchport telnet response to extract values from
      * @param packetsData statistics map to extract values to
+     * @param interfaceSwitchport parsed "show interface switchport" response to extract values from
      */
-    private void extractGeneralPacketsData(Map<String, String> packetsData, String interfaceSwitchport) {
-        Map<String, String> result = extractTelnetResponseProperties(interfaceSwitchport, "\\.{2,}");
-        packetsData.put("TotalPacketsStatistics#Total Packets Received Without Errors", result.get("Packets Received Without Error"));
-        packetsData.put("TotalPacketsStatistics#Total Packets Transmitted Without Errors", result.get("Packets Transmitted Without Errors"));
-        packetsData.put("TotalPacketsStatistics#Total Packets Received With Errors", result.get("Packets Received With Error"));
-        packetsData.put("TotalPacketsStatistics#Total Packets Transmitted With Errors", result.get("Transmit Packet Errors"));
-        packetsData.put("TotalPacketsStatistics#Time Since Counters Last Cleared", result.get("Time Since Counters Last Cleared"));
+    private void extractGeneralPacketsData(Map<String, String> packetsData, Map<String, String> interfaceSwitchport) {
+        packetsData.put("TotalPacketsStatistics#Total Packets Received Without Errors", interfaceSwitchport.get("Packets Received Without Error"));
+        packetsData.put("TotalPacketsStatistics#Total Packets Transmitted Without Errors", interfaceSwitchport.get("Packets Transmitted Without Errors"));
+        packetsData.put("TotalPacketsStatistics#Total Packets Received With Errors", interfaceSwitchport.get("Packets Received With Error"));
+        packetsData.put("TotalPacketsStatistics#Total Packets Transmitted With Errors", interfaceSwitchport.get("Transmit Packet Errors"));
+        packetsData.put("TotalPacketsStatistics#Time Since Counters Last Cleared", interfaceSwitchport.get("Time Since Counters Last Cleared"));
     }
 
     /**
-     * Reloads the entire NetGear stack.
+     * Reloads the entire NetGear stack. Once the reload is confirmed - the session is closed, since the switch
+     * drops it, and the reload is tracked by {@link #reloadMonitor}.
      */
     private void reloadStack() {
+        boolean reloadConfirmed = false;
+        long reloadStartTime = 0;
         try {
+            if(!enterPrivilegedMode()){
+                return;
+            }
             String response = internalSend("reload");
             if (response.endsWith(TELNET_UNSAVED_CHANGES_PROMPT)) {
+                reloadConfirmed = true;
+                reloadStartTime = System.currentTimeMillis();
                 internalSend("y\nreload\ny");
             } else if (response.endsWith(TELNET_STACK_RELOAD_PROMPT)) {
+                reloadConfirmed = true;
+                reloadStartTime = System.currentTimeMillis();
                 internalSend("y");
             }
         } catch (Exception e) {
-            if(logger.isErrorEnabled()) {
+            if(reloadConfirmed){
+                if(logger.isDebugEnabled()) {
+                    logger.debug("NetGearCommunicator: Session is closed by the stack reload: " + e.getMessage());
+                }
+            } else if(logger.isErrorEnabled()) {
                 logger.error("NetGearCommunicator: Error while reloading stack: " + e.getMessage());
             }
         } finally {
+            ReloadMonitor monitor = reloadMonitor;
+            if(reloadConfirmed && monitor != null){
+                try {
+                    disconnect();
+                } catch (Exception e) {
+                    logger.warn("NetGearCommunicator: Unable to close telnet session to " + host, e);
+                }
+                monitor.reloadStarted(reloadStartTime, reloadProbeInterval, reloadProbeMaxInterval, maxReloadDuration);
+            }
             if(logger.isInfoEnabled()) {
                 logger.info("NetGearCommunicator: Exited the reload with timeout: " + this.timeout);
             }
@@ -237,219 +2194,427 @@ public class NetGearNASCommunicator extends TelnetCommunicator implements Monito
     }
 
     /**
-     * Shutdown PoE port
-     * @param portName name of the port to shutdown
+     * Collects and parses responses for a list of commands. If {@link #batchCommands} is enabled and the CLI
+     * pagination is disabled for the session - commands are sent in a single batch, otherwise (or if the batch
+     * response cannot be processed) one by one. If {@link #streamingParse} is enabled - the responses that are
+     * collected one by one are parsed page by page, as the pages are received.
+     * If the switch rejects "show poe port all" (models and firmware without PoE) - the per port PoE data is
+     * considered unavailable, and the rest of the commands are collected.
+     *
+     * @param parsers map of command:parser values, in the order the commands have to be sent
+     */
+    private void fetchParsedResponses(Map<String, NetGearResponseParser.LineParser> parsers) throws Exception {
+        List<String> commands = new ArrayList<>(parsers.keySet());
+        Map<String, String> responses = null;
+        if(batchCommands && commands.size() > 1 && enterPrivilegedMode() && paginationDisabled){
+            responses = fetchBatchResponse(commands);
+        }
+        for(String command: commands){
+            try {
+                fetchParsedResponse(command, parsers.get(command), responses);
+            } catch (CommandFailureException e) {
+                if(!POE_PORT_COMMAND.equals(command)){
+                    throw e;
+                }
+                logger.warn("NetGearCommunicator: Command \"" + command + "\" is rejected by " + host + ", per port PoE data is not available: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Collects and parses response for a single command
+     *
+     * @param command command to send
+     * @param parser response parser
+     * @param responses responses of the commands batch, or null if the commands are sent one by one
      */
-    private void shutdownPortSequence(String portName) throws Exception {
-        portControlWarmup();
-        enableTelnet();
-        internalSend("config\ninterface " + portName + "\nshutdown");
-        localStatistics.getStatistics().put("Port Controls#Port " + portName, "false");
-        portControlCooldown();
+    private void fetchParsedResponse(String command, NetGearResponseParser.LineParser parser, Map<String, String> responses) throws Exception {
+        if(responses == null && streamingParse){
+            streamPaginatedResponse(command, parser);
+            return;
+        }
+        String response = responses == null ? fetchPaginatedResponse(command) : responses.get(command);
+        long parseStartTime = metricsStartTime();
+        NetGearResponseParser.parseLines(response, parser);
+        recordParse(command, parseStartTime);
     }
 
     /**
-     * Startup PoE port
-     * @param portName name of the port to start up
+     * Collects and parses responses for a list of commands, distributing the commands across the worker sessions
+     * if {@link #parallelSessions} is above 1. Commands are assigned to the sessions round-robin, in the order they
+     * are sent, so the large port tables end up on the different sessions. The slice of a worker session that
+     * has failed (e.g. the switch has refused the connection since its session limit is reached) is collected over
+     * the current session, with the parsers created anew, so the lines parsed before the failure are dropped.
+     *
+     * @param parsers map of command:parser factory values, in the order the commands have to be sent
      */
-    private void startupPortSequence(String portName) throws Exception {
-        portControlWarmup();
-        enableTelnet();
-        internalSend("config\ninterface " + portName + "\nno shutdown");
-        localStatistics.getStatistics().put("Port Controls#Port " + portName, "true");
-        portControlCooldown();
+    private void fetchParallelParsedResponses(Map<String, Supplier<NetGearResponseParser.LineParser>> parsers) throws Exception {
+        int sessionsCount = Math.min(Math.min(parallelSessions, maxTelnetSessions), parsers.size());
+        if(sessionsCount <= 1){
+            fetchParsedResponses(createParsers(parsers));
+            return;
+        }
+        List<Map<String, Supplier<NetGearResponseParser.LineParser>>> slices = new ArrayList<>();
+        for(int i = 0; i < sessionsCount; i++){
+            slices.add(new LinkedHashMap<>());
+        }
+        int sliceIndex = 0;
+        for(Map.Entry<String, Supplier<NetGearResponseParser.LineParser>> parser: parsers.entrySet()){
+            slices.get(sliceIndex++ % sessionsCount).put(parser.getKey(), parser.getValue());
+        }
+
+        List<NetGearNASCommunicator> sessions = retrieveWorkerSessions(sessionsCount - 1);
+        List<Future<Map<String, Integer>>> workerResults = new ArrayList<>();
+        for(int i = 0; i < sessions.size(); i++){
+            NetGearNASCommunicator workerSession = sessions.get(i);
+            Map<String, NetGearResponseParser.LineParser> slice = createParsers(slices.get(i + 1));
+            workerResults.add(workerSessionsExecutor.submit(() -> workerSession.fetchWorkerSlice(slice)));
+        }
+        fetchParsedResponses(createParsers(slices.get(0)));
+        for(int i = 0; i < workerResults.size(); i++){
+            try {
+                fetchedPagesCount.putAll(workerResults.get(i).get());
+            } catch (ExecutionException e) {
+                logger.warn("NetGearCommunicator: Worker telnet session to " + host + " has failed, collecting its commands over the main session: " + e.getCause().getMessage());
+                fetchParsedResponses(createParsers(slices.get(i + 1)));
+            }
+        }
     }
 
+    /**
+     * Creates the parsers for a single attempt to collect the responses
+     *
+     * @param parsers map of command:parser factory values
+     * @return map of command:parser values, in the same order
+     */
+    private static Map<String, NetGearResponseParser.LineParser> createParsers(Map<String, Supplier<NetGearResponseParser.LineParser>> parsers) {
+        Map<String, NetGearResponseParser.LineParser> result = new LinkedHashMap<>();
+        parsers.forEach((command, parser) -> result.put(command, parser.get()));
+        return result;
+    }
 
     /**
-     * Part of a port warmup-cooldown strategy. Schedules changing the adapter occupation status to "non occupied".
+     * Creates factory of the parsers filling a map, the map is cleared every time a parser is created, so a
+     * response that is collected again doesn't leave the values of the previous attempt behind
+     *
+     * @param data map to put the parsed values to
+     * @param parser parser of the response
+     * @return parser factory
      */
-    private void portControlCooldown(){
-        statisticsExclusionScheduler.schedule(() -> isOccupiedByControl = false, 3000, TimeUnit.MILLISECONDS);
+    private static Supplier<NetGearResponseParser.LineParser> parserFactory(Map<String, String> data,
+            Function<Map<String, String>, NetGearResponseParser.LineParser> parser) {
+        return () -> {
+            data.clear();
+            return parser.apply(data);
+        };
     }
 
     /**
-     * The switches that have that many controls share the similar issue - each control action by design will
-     * trigger a statistic retrieval. In order to stack multiple controls together - warmup/cooldown is applied to
-     * port controls. What this means is that whenever the control is toggled - first it lets Adapter know that
-     * it's currently occupied by a control, and the scheduler is initialized. After the control action is finished -
-     * port cooldown is initiated. It schedules changing occupation status back to "non occupied" after 3 seconds.
-     * If another control is triggered during that period - it resets the occupied action change until finished.
-     * This way, all the subsequent control actions will be stacked together without immediate statistics refresh
-     * after each of them.
+     * Collects and parses responses for a slice of the statistics commands, when used as a worker session
+     *
+     * @param parsers map of command:parser values
+     * @return map of command:pages fetched values
+     */
+    private Map<String, Integer> fetchWorkerSlice(Map<String, NetGearResponseParser.LineParser> parsers) throws Exception {
+        boolean keepSession = false;
+        lockTelnetOperations();
+        try {
+            fetchedPagesCount.clear();
+            if(!enterPrivilegedMode()){
+                throw new RuntimeException("Unable to establish a telnet communication session");
+            }
+            fetchParsedResponses(parsers);
+            keepSession = keepAliveSession;
+            return new LinkedHashMap<>(fetchedPagesCount);
+        } finally {
+            try{
+                if(!keepSession) {
+                    disconnect();
+                }
+            } finally {
+                telnetOperationsLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Retrieves the worker sessions, creating the missing ones with the current session settings
+     *
+     * @param count number of worker sessions required
+     * @return list of worker sessions
+     */
+    private List<NetGearNASCommunicator> retrieveWorkerSessions(int count) throws Exception {
+        if(workerSessionsExecutor == null){
+            workerSessionsExecutor = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "NetGearCommunicator worker session " + host);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        while (workerSessions.size() < count){
+            NetGearNASCommunicator workerSession = new NetGearNASCommunicator(true);
+            workerSession.setHost(host);
+            workerSession.setPort(getPort());
+            workerSession.setLogin(getLogin());
+            workerSession.setPassword(getPassword());
+            workerSession.setTimeout(getTimeout());
+            workerSession.setKeepAliveSession(keepAliveSession);
+            workerSession.setSessionIdleTimeout(sessionIdleTimeout);
+            workerSession.setBatchCommands(batchCommands);
+            workerSession.setBatchCommandTimeout(batchCommandTimeout);
+            workerSession.setStreamingParse(streamingParse);
+            workerSession.setTelnetTransport(telnetTransport);
+            workerSession.setAdaptiveTimeouts(adaptiveTimeouts);
+            workerSession.setAdaptiveTimeoutMultiplier(adaptiveTimeoutMultiplier);
+            workerSession.setMinAdaptiveTimeout(minAdaptiveTimeout);
+            workerSession.init();
+            workerSessions.add(workerSession);
+        }
+        return workerSessions.subList(0, count);
+    }
+
+    /**
+     * Writes all the commands at once and splits the combined response into per-command responses, based on
+     * the privileged prompt boundaries. If the combined response cannot be split properly - the session is
+     * disconnected, since the responses that are still pending would break the subsequent commands.
+     *
+     * @param commands commands to send
+     * @return map of command:response values or null if the batch has failed
+     */
+    private Map<String, String> fetchBatchResponse(List<String> commands) throws Exception {
+        int commandTimeout = this.timeout;
+        this.timeout = batchCommandTimeout * commands.size();
+        expectedBatchPrompts = commands.size();
+        receivedBatchPrompts = 0;
+        batchScanIndex = 0;
+        batchSegmentStartTime = System.currentTimeMillis();
+        long startTime = metricsStartTime();
+        try {
+            String response = internalSend(String.join("\n", commands) + "\n");
+            Map<String, String> responses = splitBatchResponse(response, commands);
+            if(responses != null){
+                commands.forEach(command -> fetchedPagesCount.put(command, 1));
+                if(performanceMetrics){
+                    metrics.recordFetch("batch", startTime, response.length(), 1);
+                }
+                return responses;
+            }
+            logger.warn("NetGearCommunicator: Unable to split batch response from " + host + ", switching to sequential commands.");
+        } catch (Exception e) {
+            logger.warn("NetGearCommunicator: Batch command failed for " + host + ", switching to sequential commands: " + e.getMessage());
+        } finally {
+            expectedBatchPrompts = 0;
+            this.timeout = commandTimeout;
+        }
+        disconnect();
+        return null;
+    }
+
+    /**
+     * Splits the combined batch response by the privileged prompt. Every part is expected to start with the
+     * echo of the respective command.
+     *
+     * @param response combined batch response
+     * @param commands commands sent in the batch
+     * @return map of command:response values, or null if the response doesn't match the commands sent
      */
-    private void portControlWarmup(){
-        if(statisticsExclusionScheduler != null) {
-            statisticsExclusionScheduler.shutdownNow();
+    private Map<String, String> splitBatchResponse(String response, List<String> commands) {
+        Map<String, String> responses = new HashMap<>();
+        int segmentStart = 0;
+        for(String command: commands){
+            int promptIndex = response.indexOf(privilegedPrompt, segmentStart);
+            if(promptIndex < 0){
+                return null;
+            }
+            int segmentEnd = promptIndex + privilegedPrompt.length();
+            String segment = response.substring(segmentStart, segmentEnd);
+            if(!segment.trim().startsWith(command)){
+                return null;
+            }
+            responses.put(command, segment);
+            segmentStart = segmentEnd;
         }
-        isOccupiedByControl = true;
-        statisticsExclusionScheduler = Executors.newScheduledThreadPool(1);
+        return responses;
     }
 
     /**
      * Collects the paginated telnet response.
      * Sometimes the response may have a paginated responce which requires sending input programmatically to
-     * get the next page.
+     * get the next page. If the pagination is disabled for the session - the response is received with a single
+     * round-trip.
      *
      * @param command command to collect a response for
      */
     private String fetchPaginatedResponse(String command) throws Exception {
-        if(!enableTelnet()){
-            return "";
+        StringBuilder telnetResponseStringBuilder = new StringBuilder();
+        fetchResponsePages(command, page -> appendResponsePage(telnetResponseStringBuilder, page));
+        return telnetResponseStringBuilder.toString();
+    }
+
+    /**
+     * Collects the paginated telnet response and parses it page by page, so the complete response is not
+     * accumulated, see {@link ResponseLineAssembler}
+     *
+     * @param command command to collect a response for
+     * @param parser parser of the response lines
+     */
+    private void streamPaginatedResponse(String command, NetGearResponseParser.LineParser parser) throws Exception {
+        ResponseLineAssembler responseLineAssembler = new ResponseLineAssembler(TELNET_PAGINATION_PROMPT, parser);
+        fetchResponsePages(command, responseLineAssembler::append);
+        responseLineAssembler.finish();
+        if(performanceMetrics){
+            metrics.recordParse(command, metrics.nanoTime() - responseLineAssembler.getParseTime());
         }
+    }
 
-        StringBuilder telnetResponseStringBuilder = new StringBuilder();
+    /**
+     * Sends the command and passes the response pages to the consumer, requesting the next page until the
+     * privileged prompt is received
+     *
+     * @param command command to collect a response for
+     * @param pageConsumer consumer of the response pages
+     */
+    private void fetchResponsePages(String command, Consumer<String> pageConsumer) throws Exception {
+        if(!enterPrivilegedMode()){
+            return;
+        }
+
+        long startTime = metricsStartTime();
         String response = internalSend(command);
+        int pages = 1;
+        long responseLength = response.length();
 
-        do {
-            telnetResponseStringBuilder.append(response);
+        pageConsumer.accept(response);
+        while (!response.endsWith("#")) {
+            if(response.endsWith(TELNET_PAGINATION_PROMPT)){
+                pages++;
+            }
             response = internalSend("-");
-        } while (!response.endsWith("#"));
-        return telnetResponseStringBuilder.append(response).toString();
+            responseLength += response.length();
+            pageConsumer.accept(response);
+        }
+        fetchedPagesCount.put(command, pages);
+        if(performanceMetrics){
+            metrics.recordFetch(command, startTime, (int) responseLength, pages);
+        }
+    }
+
+    /**
+     * Appends a page of the paginated response. The pagination prompt is replaced with a line break, so the first
+     * line of the next page is not glued to the prompt.
+     *
+     * @param telnetResponseStringBuilder response collected so far
+     * @param page response page
+     */
+    private void appendResponsePage(StringBuilder telnetResponseStringBuilder, String page) {
+        if(page.endsWith(TELNET_PAGINATION_PROMPT)){
+            telnetResponseStringBuilder.append(page, 0, page.length() - TELNET_PAGINATION_PROMPT.length()).append("\r\n");
+        } else {
+            telnetResponseStringBuilder.append(page);
+        }
     }
 
     /**
      * Since {link#AdvancedControllableProperty} were presented in Symphony 4.9 - we need to create them
      * properly. This method creates a Reload button control and a set of Port controls, that are represented
-     * by switch controls.
+     * by switch controls. Controls of the previous statistics snapshot with the same value are reused, so their
+     * timestamps are kept.
      *
      * @param portsMap map containing all the controls the switch has.
+     * @param previousSnapshot previous statistics snapshot, or null if there's none
      */
-    private List<AdvancedControllableProperty> createAdvancedControls(Map<String, String> portsMap){
-        List<AdvancedControllableProperty> portControls = new ArrayList<>();
-
-        AdvancedControllableProperty reloadButton = new AdvancedControllableProperty();
-        AdvancedControllableProperty.Button button = new AdvancedControllableProperty.Button();
-        button.setGracePeriod(reloadGracePeriod);
-        button.setLabel("Reload");
-        button.setLabelPressed("Reloading");
-        reloadButton.setType(button);
-        reloadButton.setName("Reload");
+    private List<AdvancedControllableProperty> createAdvancedControls(Map<String, String> portsMap, StatisticsSnapshot previousSnapshot){
+        List<AdvancedControllableProperty> portControls = new ArrayList<>(portsMap.size() + 1);
 
-        portsMap.keySet().forEach(s ->
+        portsMap.forEach((s, value) ->
         {
+            String name = "Port Controls#Port " + s;
+            AdvancedControllableProperty previousControl = previousSnapshot == null ? null : previousSnapshot.getControllableProperty(name);
+            if(previousControl != null && value.equals(previousControl.getValue())){
+                portControls.add(previousControl);
+                return;
+            }
             AdvancedControllableProperty.Switch portSwitch = new AdvancedControllableProperty.Switch();
             portSwitch.setLabelOn("On");
             portSwitch.setLabelOff("Off");
-            AdvancedControllableProperty portControl = new AdvancedControllableProperty("Port Controls#Port " + s, new Date(), portSwitch, portsMap.get(s));
+            AdvancedControllableProperty portControl = new AdvancedControllableProperty(name, new Date(), portSwitch, value);
             portControls.add(portControl);
         });
+
+        AdvancedControllableProperty reloadButton = previousSnapshot == null ? null : previousSnapshot.getControllableProperty("Reload");
+        if(reloadButton == null){
+            reloadButton = new AdvancedControllableProperty();
+            AdvancedControllableProperty.Button button = new AdvancedControllableProperty.Button();
+            button.setGracePeriod(reloadGracePeriod);
+            button.setLabel("Reload");
+            button.setLabelPressed("Reloading");
+            reloadButton.setType(button);
+            reloadButton.setName("Reload");
+        }
         portControls.add(reloadButton);
         return portControls;
     }
 
     /**
-     * In order to have controllable properties displayed on UI - we need to create a set of matching statistics
-     * entries in a statistics map. This metod is running through all the ports and created entries that would match
-     * (logically) the result of createAdvancedControls() method
+     * Updates the port controls of the previous statistics snapshot in place, while the configuration is unchanged:
+     * the list structure and the controls of the ports with the same state are kept, only the controls of the
+     * ports which state has changed are replaced. The port controlled properties are put to the statistics map
+     * as well, same as {@link #generatePortControlledProperties(Map, Map)} does.
      *
-     * @param portControls statistics map to add entries to
      * @param portsMap map containing ports information (Name/Status)
+     * @param previousSnapshot previous statistics snapshot, or null if there's none
+     * @param portControls statistics map to add port entries to
+     * @return controllable properties, or null if the ports don't match the previous snapshot and the controls
+     * have to be rebuilt
      */
-    private void generatePortControlledProperties(Map<String, String> portControls, Map<String, String> portsMap){
-        portsMap.keySet().forEach(s -> portControls.put("Port Controls#Port " + s, portsMap.get(s)));
-    }
-
-    /**
-     * Extract status of a NetGear environment, basically a set of telemetry - temperature, fans. Also contains information
-     * about the power supply.
-     *
-     * @param environmentData telnet response containing all the environment data
-     * @param environmentStatus statistics map to extract values to
-     */
-    private void extractEnvironmentStatus(Map<String, String> environmentStatus, String environmentData){
-        Map<String, String> temp = new HashMap<>();
-        Map<String, String> fans = new HashMap<>();
-        Map<String, String> power = new HashMap<>();
-
-        int mode = 0;
-        for (String s : environmentData.split("\n")) {
-            if(s.startsWith("Temperature Sensors:")){
-                mode = 1;
-            }
-            if(s.startsWith("Fans:")){
-                mode = 2;
-            }
-            if(s.startsWith("Power Modules:")){
-                mode = 3;
+    private List<AdvancedControllableProperty> updatePortControls(Map<String, String> portsMap, StatisticsSnapshot previousSnapshot,
+                                                                  Map<String, String> portControls){
+        if(previousSnapshot == null){
+            return null;
+        }
+        List<AdvancedControllableProperty> previousControls = previousSnapshot.getControllableProperties();
+        if(previousControls.size() != portsMap.size() + 1){
+            return null;
+        }
+        List<AdvancedControllableProperty> controls = new ArrayList<>(previousControls.size());
+        for(AdvancedControllableProperty previousControl: previousControls){
+            String name = previousControl.getName();
+            if(!name.startsWith("Port Controls#Port ")){
+                controls.add(previousControl);
+                continue;
             }
-
-            if(Character.isDigit(s.charAt(0))){
-                String[] sensorLine = s.replaceAll("\\r", "").split("\\s{2,}");
-                switch (mode){
-                    case 1:
-                        temp.put("Temperature Sensors#Temp. Sensor " + sensorLine[1] + ", " + sensorLine[2], sensorLine[3] + ", " + sensorLine[4]);
-                        break;
-                    case 2:
-                        fans.put("Fans#Fan " + sensorLine[1] + ", " + sensorLine[2], sensorLine[6] + ", " + sensorLine[4] + "rps / " + sensorLine[5]);
-                        break;
-                    case 3:
-                        power.put("Power Modules#Power supply " + sensorLine[1] + ", " + sensorLine[2], sensorLine[3] + ", " + sensorLine[4]);
-                        break;
-                    default:
-                        logger.info("No sensor data in line " + s);
-                        break;
-                }
+            String value = portsMap.get(name.substring("Port Controls#Port ".length()));
+            if(value == null){
+                return null;
             }
+            portControls.put(name, value);
+            controls.add(value.equals(previousControl.getValue()) ? previousControl
+                    : new AdvancedControllableProperty(name, new Date(), previousControl.getType(), value));
         }
-
-        environmentStatus.putAll(temp);
-        environmentStatus.putAll(fans);
-        environmentStatus.putAll(power);
-    }
-
-    /**
-     * Extracts ports statuses from the telnet response
-     *
-     * @param portsData telnet response
-     * @param ports statistics map to extract data to
-     */
-    private void extractPortStatus(Map<String, String> ports, String portsData){
-        Arrays.stream(portsData.split("\r")).forEach(portDataLine -> {
-            if(portDataLine.matches("^(\n)*\\d\\/\\d\\/\\d.+?")) {
-                String[] portDataArray = portDataLine.split("  ");
-                List<String> portDataList = Arrays.stream(portDataArray).filter(portColumnData -> !portColumnData.isEmpty()).collect(Collectors.toList());
-
-                ports.put(portDataList.get(0).replace("\n", ""), String.valueOf(portDataLine.contains(" Up ")));
-            }
-        });
+        return controls;
     }
 
     /**
-     * Extracts ports statistics from the telnet response
+     * In order to have controllable properties displayed on UI - we need to create a set of matching statistics
+     * entries in a statistics map. This metod is running through all the ports and created entries that would match
+     * (logically) the result of createAdvancedControls() method
      *
-     * @param portsData telnet response
-     * @param ports statistics map to extract data to
+     * @param portControls statistics map to add entries to
+     * @param portsMap map containing ports information (Name/Status)
      */
-    private void extractPortStatistics(Map<String, String> ports, String portsData){
-        Arrays.stream(portsData.split("\r")).forEach(portDataLine -> {
-            if(portDataLine.matches("^(\n)*\\d\\/\\d\\/\\d.+?")) {
-                String[] portDataArray = portDataLine.split("  ");
-                List<String> portDataList = Arrays.stream(portDataArray).filter(portColumnData -> !portColumnData.isEmpty()).collect(Collectors.toList());
-                ports.put("Ports Packets Statistics#Port " + portDataList.get(0) + " Received" , portDataList.get(4));
-                ports.put("Ports Packets Statistics#Port " + portDataList.get(0) + " Transmitted" , portDataList.get(3));
-            }
-        });
+    private void generatePortControlledProperties(Map<String, String> portControls, Map<String, String> portsMap){
+        portsMap.keySet().forEach(s -> portControls.put("Port Controls#Port " + s, portsMap.get(s)));
     }
 
     /**
-     * Transforms specific telnet responses into key:value data
+     * Transforms specific telnet responses into key:value data, e.g Key...........Value
      *
-     * @param separatorPattern pattern that is used to define the separator between key and value, e.g
-     *                         Key...........Value - would have it "\\.{2,}", or Key__________Value
-     *                         would have it defined as "_{2,}" etc.
      * @param response response to parse
      * @return Map<String, String> that represents the parsed values
      */
-    private Map<String, String> extractTelnetResponseProperties(String response, String separatorPattern){
-        String[] lines = response.split("\n");
+    private Map<String, String> extractTelnetResponseProperties(String response){
         LinkedHashMap<String, String> responseMap = new LinkedHashMap<>();
-        Arrays.stream(lines).forEach(s -> {
-            if(Pattern.compile(separatorPattern).matcher(s).find()) {
-                String[] line = s.split(separatorPattern);
-                responseMap.put(line[0], line[1].trim().replaceAll("\t", ""));
-            }
-        });
+        NetGearResponseParser.parseDotLeaderProperties(response, responseMap);
         return responseMap;
     }
 
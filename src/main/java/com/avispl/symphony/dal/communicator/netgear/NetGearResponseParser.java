@@ -0,0 +1,420 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.netgear;
+
+import java.util.Map;
+
+/**
+ * Single-pass parsers for NetGear telnet responses. Responses are processed line by line, using index-based
+ * scanning instead of regular expressions and intermediate arrays/streams, since the ports tables are parsed
+ * for every port of the stack on every statistics cycle.
+ * Both "\r" and "\n" are treated as line separators, empty lines are skipped.
+ * Each parser is available as a {@link LineParser} as well, so the response can be parsed page by page as it
+ * is received, see {@link ResponseLineAssembler}.
+ */
+final class NetGearResponseParser {
+
+    private static final int MAX_COLUMNS = 32;
+
+    private static final int POE_PORT_PRIORITY_COLUMN = 2;
+    private static final int POE_PORT_CLASS_COLUMN = 3;
+    private static final int POE_PORT_POWER_COLUMN = 5;
+    private static final int POE_PORT_STATUS_COLUMN = 8;
+
+    private static final int ENVIRONMENT_SECTION_NONE = 0;
+    private static final int ENVIRONMENT_SECTION_TEMPERATURE = 1;
+    private static final int ENVIRONMENT_SECTION_FANS = 2;
+    private static final int ENVIRONMENT_SECTION_POWER = 3;
+
+    private NetGearResponseParser() {
+    }
+
+    /**
+     * Parser of a single response line. Line is passed as a region of a text, so the text doesn't have to be
+     * split into lines.
+     */
+    interface LineParser {
+        /**
+         * Parses a single non-empty line
+         *
+         * @param text text that contains the line
+         * @param lineStart line start index
+         * @param lineEnd line end index (exclusive)
+         */
+        void parseLine(String text, int lineStart, int lineEnd);
+    }
+
+    /**
+     * Passes all the non-empty lines of the response to the parser
+     *
+     * @param response response to parse
+     * @param parser line parser
+     */
+    static void parseLines(String response, LineParser parser) {
+        int length = response.length();
+        int lineStart = 0;
+        while (lineStart < length) {
+            int lineEnd = lineEnd(response, lineStart);
+            if (lineEnd > lineStart) {
+                parser.parseLine(response, lineStart, lineEnd);
+            }
+            lineStart = lineEnd + 1;
+        }
+    }
+
+    /**
+     * Transforms "Key..........Value" lines into key:value data. Lines without the dot leader are skipped.
+     *
+     * @param response response to parse
+     * @param properties map to put the parsed values to
+     */
+    static void parseDotLeaderProperties(String response, Map<String, String> properties) {
+        parseLines(response, dotLeaderPropertiesParser(properties));
+    }
+
+    /**
+     * Extracts ports statuses from the "show port status" response. Port is considered active if any of its row
+     * cells is "Up".
+     *
+     * @param response telnet response
+     * @param ports map to put port name:"true"/"false" values to
+     */
+    static void parsePortStatus(String response, Map<String, String> ports) {
+        parseLines(response, portStatusParser(ports));
+    }
+
+    /**
+     * Extracts ports packets statistics from the "show interface ethernet" response: 4th column contains
+     * transmitted packets and 5th column - received packets.
+     *
+     * @param response telnet response
+     * @param ports map to put the statistics to
+     */
+    static void parsePortStatistics(String response, Map<String, String> ports) {
+        parseLines(response, portStatisticsParser(ports));
+    }
+
+    /**
+     * Extracts per port PoE data from the "show poe port all" response: priority, class, output power and status.
+     * Empty cells (e.g. class of a port that doesn't deliver power) are skipped.
+     *
+     * @param response telnet response
+     * @param ports map to put the statistics to
+     */
+    static void parsePoePortStatus(String response, Map<String, String> ports) {
+        parseLines(response, poePortStatusParser(ports));
+    }
+
+    /**
+     * Extracts temperature sensors, fans and power modules data from the "show environment" response.
+     * Sections are defined by "Temperature Sensors:", "Fans:" and "Power Modules:" headers, data rows start with
+     * the unit number.
+     *
+     * @param response telnet response
+     * @param environmentStatus map to put the environment statistics to
+     */
+    static void parseEnvironmentStatus(String response, Map<String, String> environmentStatus) {
+        parseLines(response, environmentStatusParser(environmentStatus));
+    }
+
+    /**
+     * Creates line parser of the "Key..........Value" lines, see {@link #parseDotLeaderProperties(String, Map)}
+     *
+     * @param properties map to put the parsed values to
+     * @return line parser
+     */
+    static LineParser dotLeaderPropertiesParser(Map<String, String> properties) {
+        return (text, lineStart, lineEnd) -> parseDotLeaderLine(text, lineStart, lineEnd, properties);
+    }
+
+    /**
+     * Creates line parser of the "show port status" response, see {@link #parsePortStatus(String, Map)}
+     *
+     * @param ports map to put port name:"true"/"false" values to
+     * @return line parser
+     */
+    static LineParser portStatusParser(Map<String, String> ports) {
+        return new FixedWidthTableParser((text, lineStart, lineEnd, columns, columnsCount) -> {
+            if (isPortLine(text, lineStart, lineEnd) && columnsCount > 0) {
+                ports.put(column(text, columns, 0), String.valueOf(containsCell(text, columns, columnsCount, "Up")));
+            }
+        });
+    }
+
+    /**
+     * Creates line parser of the "show interface ethernet" response, see {@link #parsePortStatistics(String, Map)}
+     *
+     * @param ports map to put the statistics to
+     * @return line parser
+     */
+    static LineParser portStatisticsParser(Map<String, String> ports) {
+        return new FixedWidthTableParser((text, lineStart, lineEnd, columns, columnsCount) -> {
+            if (isPortLine(text, lineStart, lineEnd) && columnsCount > 4) {
+                String portName = column(text, columns, 0);
+                ports.put("Ports Packets Statistics#Port " + portName + " Received", column(text, columns, 4));
+                ports.put("Ports Packets Statistics#Port " + portName + " Transmitted", column(text, columns, 3));
+            }
+        });
+    }
+
+    /**
+     * Creates line parser of the "show poe port all" response, see {@link #parsePoePortStatus(String, Map)}
+     *
+     * @param ports map to put the statistics to
+     * @return line parser
+     */
+    static LineParser poePortStatusParser(Map<String, String> ports) {
+        return new FixedWidthTableParser((text, lineStart, lineEnd, columns, columnsCount) -> {
+            if (isPortLine(text, lineStart, lineEnd) && columnsCount > POE_PORT_STATUS_COLUMN) {
+                String prefix = "PoE Port Statistics#Port " + column(text, columns, 0);
+                putCell(ports, prefix + " Priority", text, columns, POE_PORT_PRIORITY_COLUMN);
+                putCell(ports, prefix + " Class", text, columns, POE_PORT_CLASS_COLUMN);
+                putCell(ports, prefix + " Output Power (W)", text, columns, POE_PORT_POWER_COLUMN);
+                putCell(ports, prefix + " Status", text, columns, POE_PORT_STATUS_COLUMN);
+            }
+        });
+    }
+
+    /**
+     * Creates line parser of the "show environment" response, see {@link #parseEnvironmentStatus(String, Map)}.
+     * The parser keeps track of the current section, so it has to be used for a single response only.
+     *
+     * @param environmentStatus map to put the environment statistics to
+     * @return line parser
+     */
+    static LineParser environmentStatusParser(Map<String, String> environmentStatus) {
+        int[] columns = new int[MAX_COLUMNS * 2];
+        int[] section = {ENVIRONMENT_SECTION_NONE};
+        return (text, lineStart, lineEnd) -> {
+            if (text.startsWith("Temperature Sensors:", lineStart)) {
+                section[0] = ENVIRONMENT_SECTION_TEMPERATURE;
+            } else if (text.startsWith("Fans:", lineStart)) {
+                section[0] = ENVIRONMENT_SECTION_FANS;
+            } else if (text.startsWith("Power Modules:", lineStart)) {
+                section[0] = ENVIRONMENT_SECTION_POWER;
+            } else if (Character.isDigit(text.charAt(lineStart))) {
+                int columnsCount = tokenize(text, lineStart, lineEnd, columns);
+                parseEnvironmentLine(text, section[0], columns, columnsCount, environmentStatus);
+            }
+        };
+    }
+
+    /**
+     * Creates environment statistics entry for a single sensor row
+     *
+     * @param response telnet response
+     * @param section environment section the row belongs to
+     * @param columns columns boundaries
+     * @param columnsCount number of columns in the row
+     * @param environmentStatus map to put the environment statistics to
+     */
+    private static void parseEnvironmentLine(String response, int section, int[] columns, int columnsCount, Map<String, String> environmentStatus) {
+        switch (section) {
+            case ENVIRONMENT_SECTION_TEMPERATURE:
+                if (columnsCount > 4) {
+                    environmentStatus.put("Temperature Sensors#Temp. Sensor " + column(response, columns, 1) + ", " + column(response, columns, 2),
+                            column(response, columns, 3) + ", " + column(response, columns, 4));
+                }
+                break;
+            case ENVIRONMENT_SECTION_FANS:
+                if (columnsCount > 6) {
+                    environmentStatus.put("Fans#Fan " + column(response, columns, 1) + ", " + column(response, columns, 2),
+                            column(response, columns, 6) + ", " + column(response, columns, 4) + "rps / " + column(response, columns, 5));
+                }
+                break;
+            case ENVIRONMENT_SECTION_POWER:
+                if (columnsCount > 4) {
+                    environmentStatus.put("Power Modules#Power supply " + column(response, columns, 1) + ", " + column(response, columns, 2),
+                            column(response, columns, 3) + ", " + column(response, columns, 4));
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Parses a single "Key..........Value" line
+     *
+     * @param response telnet response
+     * @param lineStart line start index
+     * @param lineEnd line end index (exclusive)
+     * @param properties map to put the parsed value to
+     */
+    private static void parseDotLeaderLine(String response, int lineStart, int lineEnd, Map<String, String> properties) {
+        int separatorStart = indexOf(response, "..", lineStart, lineEnd);
+        if (separatorStart < 0) {
+            return;
+        }
+        int valueStart = separatorStart + 2;
+        while (valueStart < lineEnd && response.charAt(valueStart) == '.') {
+            valueStart++;
+        }
+        int valueEnd = indexOf(response, "..", valueStart, lineEnd);
+        if (valueEnd < 0) {
+            valueEnd = lineEnd;
+        }
+        while (valueStart < valueEnd && response.charAt(valueStart) <= ' ') {
+            valueStart++;
+        }
+        while (valueEnd > valueStart && response.charAt(valueEnd - 1) <= ' ') {
+            valueEnd--;
+        }
+        String value = response.substring(valueStart, valueEnd);
+        if (value.indexOf('\t') >= 0) {
+            StringBuilder valueBuilder = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) != '\t') {
+                    valueBuilder.append(value.charAt(i));
+                }
+            }
+            value = valueBuilder.toString();
+        }
+        properties.put(response.substring(lineStart, separatorStart), value);
+    }
+
+    /**
+     * Splits the line into columns, separated by 2 or more whitespace characters. Leading and trailing
+     * whitespaces are not included in the columns.
+     *
+     * @param response telnet response
+     * @param lineStart line start index
+     * @param lineEnd line end index (exclusive)
+     * @param columns array to store columns start/end indexes to, as pairs
+     * @return number of columns found
+     */
+    static int tokenize(String response, int lineStart, int lineEnd, int[] columns) {
+        int count = 0;
+        int position = lineStart;
+        while (position < lineEnd && isWhitespace(response.charAt(position))) {
+            position++;
+        }
+        while (position < lineEnd && count < columns.length / 2) {
+            int columnStart = position;
+            int columnEnd = position;
+            while (position < lineEnd) {
+                if (isWhitespace(response.charAt(position))) {
+                    if (position + 1 >= lineEnd || isWhitespace(response.charAt(position + 1))) {
+                        break;
+                    }
+                } else {
+                    columnEnd = position + 1;
+                }
+                position++;
+            }
+            columns[count * 2] = columnStart;
+            columns[count * 2 + 1] = columnEnd;
+            count++;
+            while (position < lineEnd && isWhitespace(response.charAt(position))) {
+                position++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks whether the line starts with a port name in unit/slot/port format
+     *
+     * @param response telnet response
+     * @param lineStart line start index
+     * @param lineEnd line end index (exclusive)
+     * @return true if the line is a port data line
+     */
+    static boolean isPortLine(String response, int lineStart, int lineEnd) {
+        return lineEnd - lineStart > 5
+                && Character.isDigit(response.charAt(lineStart))
+                && response.charAt(lineStart + 1) == '/'
+                && Character.isDigit(response.charAt(lineStart + 2))
+                && response.charAt(lineStart + 3) == '/'
+                && Character.isDigit(response.charAt(lineStart + 4));
+    }
+
+    /**
+     * Finds the end of the line, that starts at a given index
+     *
+     * @param response telnet response
+     * @param lineStart line start index
+     * @return index of the "\r" or "\n" character that ends the line, or response length
+     */
+    static int lineEnd(String response, int lineStart) {
+        int length = response.length();
+        for (int i = lineStart; i < length; i++) {
+            char c = response.charAt(i);
+            if (c == '\n' || c == '\r') {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Checks whether any of the row cells equals a given value
+     *
+     * @param response telnet response
+     * @param columns cells boundaries
+     * @param columnsCount number of cells in the row
+     * @param value value to look for
+     * @return true if the value is found
+     */
+    private static boolean containsCell(String response, int[] columns, int columnsCount, String value) {
+        for (int i = 0; i < columnsCount; i++) {
+            int cellStart = columns[i * 2];
+            if (columns[i * 2 + 1] - cellStart == value.length() && response.startsWith(value, cellStart)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Puts the cell value to the statistics, unless the cell is empty
+     *
+     * @param statistics map to put the value to
+     * @param name statistics name
+     * @param response telnet response
+     * @param columns cells boundaries
+     * @param index cell index
+     */
+    private static void putCell(Map<String, String> statistics, String name, String response, int[] columns, int index) {
+        if (columns[index * 2 + 1] > columns[index * 2]) {
+            statistics.put(name, column(response, columns, index));
+        }
+    }
+
+    /**
+     * Finds the value within the response region, without scanning the response past the region end
+     *
+     * @param response telnet response
+     * @param value value to look for
+     * @param start region start index
+     * @param end region end index (exclusive)
+     * @return index of the value or -1 if the region doesn't contain it
+     */
+    private static int indexOf(String response, String value, int start, int end) {
+        int lastStart = end - value.length();
+        char first = value.charAt(0);
+        for (int i = start; i <= lastStart; i++) {
+            if (response.charAt(i) == first && response.regionMatches(i, value, 0, value.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Retrieves column value
+     *
+     * @param response telnet response
+     * @param columns columns boundaries
+     * @param index column index
+     * @return column value
+     */
+    private static String column(String response, int[] columns, int index) {
+        return response.substring(columns[index * 2], columns[index * 2 + 1]);
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t';
+    }
+}
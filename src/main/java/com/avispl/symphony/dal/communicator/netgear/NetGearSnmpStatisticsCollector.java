@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.netgear;
+
+import org.snmp4j.CommunityTarget;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.smi.Address;
+import org.snmp4j.smi.GenericAddress;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+import org.snmp4j.util.DefaultPDUFactory;
+import org.snmp4j.util.TableEvent;
+import org.snmp4j.util.TableUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Collects NetGear switch statistics over SNMP table walks (GETBULK for SNMP v2c, GETNEXT for v1), as an
+ * alternative to parsing telnet responses. Produces the same statistics keys as the respective telnet
+ * response extractors of {@link NetGearNASCommunicator}:
+ * - IF-MIB ifTable/ifXTable for the ports status and packets counters
+ * - ENTITY-SENSOR-MIB (with ENTITY-MIB names and positions) for temperature sensors, fans and power modules
+ * - POWER-ETHERNET-MIB main PSE and notification control tables for the global PoE information
+ * The fans duty level, PoE firmware version and power management mode are not available in the standard MIBs,
+ * so the fans duty level is reported as "N/A" and the PoE firmware version and power management mode are omitted.
+ */
+final class NetGearSnmpStatisticsCollector implements AutoCloseable {
+
+    /**
+     * Width of the packet counters collected, the ports packets are based on the ifXTable high capacity counters
+     */
+    static final int COUNTER_WIDTH = PortCounterRateTracker.COUNTER_64_BITS;
+
+    static final OID IF_NAME = new OID("1.3.6.1.2.1.31.1.1.1.1");
+    static final OID IF_OPER_STATUS = new OID("1.3.6.1.2.1.2.2.1.8");
+    static final OID IF_IN_ERRORS = new OID("1.3.6.1.2.1.2.2.1.14");
+    static final OID IF_OUT_ERRORS = new OID("1.3.6.1.2.1.2.2.1.20");
+    static final OID IF_HC_IN_UCAST_PKTS = new OID("1.3.6.1.2.1.31.1.1.1.7");
+    static final OID IF_HC_IN_MULTICAST_PKTS = new OID("1.3.6.1.2.1.31.1.1.1.8");
+    static final OID IF_HC_IN_BROADCAST_PKTS = new OID("1.3.6.1.2.1.31.1.1.1.9");
+    static final OID IF_HC_OUT_UCAST_PKTS = new OID("1.3.6.1.2.1.31.1.1.1.11");
+    static final OID IF_HC_OUT_MULTICAST_PKTS = new OID("1.3.6.1.2.1.31.1.1.1.12");
+    static final OID IF_HC_OUT_BROADCAST_PKTS = new OID("1.3.6.1.2.1.31.1.1.1.13");
+
+    static final OID ENT_PHYSICAL_PARENT_REL_POS = new OID("1.3.6.1.2.1.47.1.1.1.1.6");
+    static final OID ENT_PHYSICAL_NAME = new OID("1.3.6.1.2.1.47.1.1.1.1.7");
+    static final OID ENT_PHYSICAL_IS_FRU = new OID("1.3.6.1.2.1.47.1.1.1.1.16");
+    static final OID ENT_PHY_SENSOR_TYPE = new OID("1.3.6.1.2.1.99.1.1.1.1");
+    static final OID ENT_PHY_SENSOR_PRECISION = new OID("1.3.6.1.2.1.99.1.1.1.3");
+    static final OID ENT_PHY_SENSOR_VALUE = new OID("1.3.6.1.2.1.99.1.1.1.4");
+    static final OID ENT_PHY_SENSOR_OPER_STATUS = new OID("1.3.6.1.2.1.99.1.1.1.5");
+
+    static final OID PETH_MAIN_PSE_POWER = new OID("1.3.6.1.2.1.105.1.3.1.1.2");
+    static final OID PETH_MAIN_PSE_OPER_STATUS = new OID("1.3.6.1.2.1.105.1.3.1.1.3");
+    static final OID PETH_MAIN_PSE_CONSUMPTION_POWER = new OID("1.3.6.1.2.1.105.1.3.1.1.4");
+    static final OID PETH_MAIN_PSE_USAGE_THRESHOLD = new OID("1.3.6.1.2.1.105.1.3.1.1.5");
+    static final OID PETH_NOTIFICATION_CONTROL_ENABLE = new OID("1.3.6.1.2.1.105.1.4.1.1.2");
+
+    private static final int IF_OPER_STATUS_UP = 1;
+    private static final int SENSOR_TYPE_VOLTS_AC = 3;
+    private static final int SENSOR_TYPE_VOLTS_DC = 4;
+    private static final int SENSOR_TYPE_WATTS = 6;
+    private static final int SENSOR_TYPE_CELSIUS = 8;
+    private static final int SENSOR_TYPE_RPM = 10;
+    private static final int SENSOR_STATUS_OK = 1;
+    private static final int SENSOR_STATUS_UNAVAILABLE = 2;
+    private static final int PSE_STATUS_ON = 1;
+    private static final int PSE_STATUS_OFF = 2;
+    private static final int TRUTH_VALUE_TRUE = 1;
+
+    private static final Pattern PORT_NAME_PATTERN = Pattern.compile("\\d+/\\d+/\\d+");
+
+    private final Snmp snmp;
+    private final CommunityTarget<Address> target;
+    private final TableUtils tableUtils;
+
+    /**
+     * Creates SNMP session for the switch
+     *
+     * @param address switch address, e.g. udp:10.0.0.1/161
+     * @param community SNMP community
+     * @param version SNMP version, either 1 or 2c
+     * @param timeout SNMP request timeout (ms)
+     * @param retries number of SNMP request retries
+     * @throws IOException if the SNMP transport cannot be created
+     */
+    NetGearSnmpStatisticsCollector(String address, String community, String version, int timeout, int retries) throws IOException {
+        DefaultUdpTransportMapping transportMapping = new DefaultUdpTransportMapping();
+        snmp = new Snmp(transportMapping);
+        transportMapping.listen();
+
+        boolean bulkSupported = !"1".equals(version);
+        target = new CommunityTarget<>(GenericAddress.parse(address), new OctetString(community));
+        target.setVersion(bulkSupported ? SnmpConstants.version2c : SnmpConstants.version1);
+        target.setTimeout(timeout);
+        target.setRetries(retries);
+
+        tableUtils = new TableUtils(snmp, new DefaultPDUFactory(bulkSupported ? PDU.GETBULK : PDU.GETNEXT));
+        tableUtils.setMaxNumRowsPerPDU(32);
+    }
+
+    /**
+     * Collects ports statuses and packets counters, matching "show port status all", "show interface ethernet all"
+     * and "show interface switchport" telnet responses.
+     *
+     * @param ports map to put ports statuses (port name:"true"/"false") to
+     * @param portsStatistics map to put ports packets statistics to
+     * @param packetsData map to put switch total packets statistics to
+     * @throws IOException if SNMP table walk has failed
+     */
+    void collectInterfaces(Map<String, String> ports, Map<String, String> portsStatistics, Map<String, String> packetsData) throws IOException {
+        long totalReceived = 0;
+        long totalTransmitted = 0;
+        long totalReceivedErrors = 0;
+        long totalTransmittedErrors = 0;
+
+        for (TableEvent row : walkTable(IF_NAME, IF_OPER_STATUS, IF_HC_IN_UCAST_PKTS, IF_HC_IN_MULTICAST_PKTS,
+                IF_HC_IN_BROADCAST_PKTS, IF_HC_OUT_UCAST_PKTS, IF_HC_OUT_MULTICAST_PKTS, IF_HC_OUT_BROADCAST_PKTS,
+                IF_IN_ERRORS, IF_OUT_ERRORS)) {
+            VariableBinding[] columns = row.getColumns();
+            if (columns[0] == null) {
+                continue;
+            }
+            String portName = columns[0].getVariable().toString();
+            if (!PORT_NAME_PATTERN.matcher(portName).matches()) {
+                continue;
+            }
+            long received = toLong(columns[2]) + toLong(columns[3]) + toLong(columns[4]);
+            long transmitted = toLong(columns[5]) + toLong(columns[6]) + toLong(columns[7]);
+
+            ports.put(portName, String.valueOf(toLong(columns[1]) == IF_OPER_STATUS_UP));
+            portsStatistics.put("Ports Packets Statistics#Port " + portName + " Received", String.valueOf(received));
+            portsStatistics.put("Ports Packets Statistics#Port " + portName + " Transmitted", String.valueOf(transmitted));
+
+            totalReceived += received;
+            totalTransmitted += transmitted;
+            totalReceivedErrors += toLong(columns[8]);
+            totalTransmittedErrors += toLong(columns[9]);
+        }
+
+        packetsData.put("TotalPacketsStatistics#Total Packets Received Without Errors", String.valueOf(totalReceived));
+        packetsData.put("TotalPacketsStatistics#Total Packets Transmitted Without Errors", String.valueOf(totalTransmitted));
+        packetsData.put("TotalPacketsStatistics#Total Packets Received With Errors", String.valueOf(totalReceivedErrors));
+        packetsData.put("TotalPacketsStatistics#Total Packets Transmitted With Errors", String.valueOf(totalTransmittedErrors));
+    }
+
+    /**
+     * Collects temperature sensors, fans and power modules data, matching "show environment" telnet response.
+     *
+     * @return map of environment statistics
+     * @throws IOException if SNMP table walk has failed
+     */
+    Map<String, String> collectEnvironmentStatus() throws IOException {
+        Map<OID, PhysicalEntity> physicalEntities = new HashMap<>();
+        for (TableEvent row : walkTable(ENT_PHYSICAL_NAME, ENT_PHYSICAL_PARENT_REL_POS, ENT_PHYSICAL_IS_FRU)) {
+            VariableBinding[] columns = row.getColumns();
+            if (columns[0] != null) {
+                physicalEntities.put(row.getIndex(), new PhysicalEntity(columns[0].getVariable().toString(),
+                        toLong(columns[1]), toLong(columns[2]) == TRUTH_VALUE_TRUE));
+            }
+        }
+
+        Map<String, String> temperature = new LinkedHashMap<>();
+        Map<String, String> fans = new LinkedHashMap<>();
+        Map<String, String> power = new LinkedHashMap<>();
+        for (TableEvent row : walkTable(ENT_PHY_SENSOR_TYPE, ENT_PHY_SENSOR_PRECISION, ENT_PHY_SENSOR_VALUE, ENT_PHY_SENSOR_OPER_STATUS)) {
+            VariableBinding[] columns = row.getColumns();
+            if (columns[0] == null || columns[2] == null) {
+                continue;
+            }
+            PhysicalEntity entity = physicalEntities.get(row.getIndex());
+            long position = entity != null && entity.position > 0 ? entity.position : row.getIndex().last();
+            String sensorName = position + ", " + (entity == null ? row.getIndex().toString() : entity.name);
+            String value = BigDecimal.valueOf(toLong(columns[2]), (int) toLong(columns[1])).toPlainString();
+            int status = (int) toLong(columns[3]);
+
+            switch ((int) toLong(columns[0])) {
+                case SENSOR_TYPE_CELSIUS:
+                    temperature.put("Temperature Sensors#Temp. Sensor " + sensorName, value + ", " + sensorStatus(status, "Normal", "Not Operational"));
+                    break;
+                case SENSOR_TYPE_RPM:
+                    fans.put("Fans#Fan " + sensorName, sensorStatus(status, "Operational", "Failed") + ", " + value + "rps / N/A");
+                    break;
+                case SENSOR_TYPE_VOLTS_AC:
+                case SENSOR_TYPE_VOLTS_DC:
+                case SENSOR_TYPE_WATTS:
+                    power.put("Power Modules#Power supply " + sensorName, (entity != null && entity.replaceable ? "Removable" : "Fixed")
+                            + ", " + sensorStatus(status, "Operational", "Failed"));
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        Map<String, String> environmentStatus = new LinkedHashMap<>(temperature);
+        environmentStatus.putAll(fans);
+        environmentStatus.putAll(power);
+        return environmentStatus;
+    }
+
+    /**
+     * Collects the global PoE information, matching "show poe" telnet response. Power values of all the stack
+     * members are summed up, the threshold power is calculated based on the usage threshold. Firmware version
+     * and power management mode are not available.
+     *
+     * @return map of PoE statistics
+     * @throws IOException if SNMP table walk has failed
+     */
+    Map<String, String> collectPoeStatus() throws IOException {
+        Map<String, String> poeStatus = new LinkedHashMap<>();
+        List<TableEvent> rows = walkTable(PETH_MAIN_PSE_POWER, PETH_MAIN_PSE_OPER_STATUS, PETH_MAIN_PSE_CONSUMPTION_POWER, PETH_MAIN_PSE_USAGE_THRESHOLD);
+        if (rows.isEmpty()) {
+            return poeStatus;
+        }
+
+        long availablePower = 0;
+        long consumedPower = 0;
+        int operationalStatus = PSE_STATUS_OFF;
+        long usageThreshold = 0;
+        for (TableEvent row : rows) {
+            VariableBinding[] columns = row.getColumns();
+            availablePower += toLong(columns[0]);
+            consumedPower += toLong(columns[2]);
+            usageThreshold = Math.max(usageThreshold, toLong(columns[3]));
+            if (toLong(columns[1]) == PSE_STATUS_ON) {
+                operationalStatus = PSE_STATUS_ON;
+            }
+        }
+
+        poeStatus.put("PSE Main Operational Status", operationalStatus == PSE_STATUS_ON ? "ON" : "OFF");
+        poeStatus.put("Total Power Available", watts(BigDecimal.valueOf(availablePower)));
+        poeStatus.put("Threshold Power", watts(BigDecimal.valueOf(availablePower * usageThreshold, 2)));
+        poeStatus.put("Total Power Consumed", watts(BigDecimal.valueOf(consumedPower)));
+        poeStatus.put("Usage Threshold", String.valueOf(usageThreshold));
+
+        List<TableEvent> notificationRows = walkTable(PETH_NOTIFICATION_CONTROL_ENABLE);
+        if (!notificationRows.isEmpty()) {
+            boolean trapsEnabled = false;
+            for (TableEvent row : notificationRows) {
+                trapsEnabled |= toLong(row.getColumns()[0]) == TRUTH_VALUE_TRUE;
+            }
+            poeStatus.put("Traps", trapsEnabled ? "Enable" : "Disable");
+        }
+        return poeStatus;
+    }
+
+    @Override
+    public void close() throws IOException {
+        snmp.close();
+    }
+
+    /**
+     * Walks SNMP table columns
+     *
+     * @param columns columns OIDs to retrieve
+     * @return table rows
+     * @throws IOException if any of the table requests has failed
+     */
+    private List<TableEvent> walkTable(OID... columns) throws IOException {
+        List<TableEvent> rows = tableUtils.getTable(target, columns, null, null);
+        for (TableEvent row : rows) {
+            if (row.isError()) {
+                throw new IOException("SNMP table walk failed for " + target.getAddress() + ": " + row.getErrorMessage());
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Converts a numeric SNMP variable to long
+     *
+     * @param variableBinding variable binding to convert
+     * @return numeric value, or 0 if the column is not present in a sparse table
+     */
+    private static long toLong(VariableBinding variableBinding) {
+        if (variableBinding == null) {
+            return 0;
+        }
+        Variable variable = variableBinding.getVariable();
+        return variable.isException() ? 0 : variable.toLong();
+    }
+
+    /**
+     * Formats power value the way "show poe" telnet response does, e.g. "720.0 Watts"
+     *
+     * @param power power value, W
+     * @return formatted power value
+     */
+    private static String watts(BigDecimal power) {
+        return power.setScale(1, RoundingMode.HALF_UP).toPlainString() + " Watts";
+    }
+
+    /**
+     * Converts ENTITY-SENSOR-MIB sensor status to a telnet-alike state
+     *
+     * @param status sensor status (1 - ok, 2 - unavailable, 3 - nonoperational)
+     * @param operationalState state name that is used for the "ok" status
+     * @param failedState state name that is used for the "nonoperational" status
+     * @return sensor state
+     */
+    private static String sensorStatus(int status, String operationalState, String failedState) {
+        switch (status) {
+            case SENSOR_STATUS_OK:
+                return operationalState;
+            case SENSOR_STATUS_UNAVAILABLE:
+                return "Not Present";
+            default:
+                return failedState;
+        }
+    }
+
+    /**
+     * ENTITY-MIB data of a sensor: name, position within its unit (the sensor number of the "show environment"
+     * telnet response) and whether it is replaceable
+     */
+    private static final class PhysicalEntity {
+        private final String name;
+        private final long position;
+        private final boolean replaceable;
+
+        private PhysicalEntity(String name, long position, boolean replaceable) {
+            this.name = name;
+            this.position = position;
+            this.replaceable = replaceable;
+        }
+    }
+}
@@ -0,0 +1,421 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.netgear;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Non-blocking telnet session, served by the shared {@link TelnetReactor}. Telnet IAC sequences are handled by the
+ * reactor thread: echo and suppress-go-ahead are accepted, the rest of the options are refused, subnegotiations
+ * are skipped. The data received is accumulated until it's read by {@link #read(ResponseCondition, long, String)},
+ * which waits for the response to be complete with a precise deadline instead of polling the socket.
+ * The waits are based on {@link ReentrantLock} conditions, so the sessions can be used from the virtual threads.
+ */
+final class NioTelnetSession implements Closeable {
+    private static final int IAC = 255;
+    private static final int DONT = 254;
+    private static final int DO = 253;
+    private static final int WONT = 252;
+    private static final int WILL = 251;
+    private static final int SB = 250;
+    private static final int SE = 240;
+    private static final int OPTION_ECHO = 1;
+    private static final int OPTION_SUPPRESS_GO_AHEAD = 3;
+
+    private static final int STATE_DATA = 0;
+    private static final int STATE_IAC = 1;
+    private static final int STATE_OPTION = 2;
+    private static final int STATE_SUBNEGOTIATION = 3;
+    private static final int STATE_SUBNEGOTIATION_IAC = 4;
+
+    /**
+     * Check of the response completeness, that may reject the response with an exception
+     */
+    interface ResponseCondition {
+        /**
+         * Checks whether the response is complete
+         *
+         * @param response response received so far
+         * @return true if the response is complete
+         */
+        boolean isComplete(String response) throws Exception;
+    }
+
+    private final TelnetReactor reactor;
+    private final SocketChannel channel;
+    private final Queue<ByteBuffer> pendingWrites = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition stateChanged = lock.newCondition();
+
+    private final StringBuilder received = new StringBuilder();
+    private long receivedVersion;
+    private boolean connected;
+    private boolean closed;
+    private IOException failure;
+
+    private SelectionKey key;
+    private final StringBuilder decoded = new StringBuilder();
+    private final boolean[][] negotiated = new boolean[4][256];
+    private int iacState = STATE_DATA;
+    private int iacCommand;
+
+    private NioTelnetSession(TelnetReactor reactor, SocketChannel channel) {
+        this.reactor = reactor;
+        this.channel = channel;
+    }
+
+    /**
+     * Opens a telnet session
+     *
+     * @param host host to connect to
+     * @param port telnet port
+     * @param timeout connection timeout, ms
+     * @return connected session
+     */
+    static NioTelnetSession open(String host, int port, long timeout) throws IOException {
+        SocketChannel channel = SocketChannel.open();
+        NioTelnetSession session;
+        try {
+            channel.configureBlocking(false);
+            boolean connected = channel.connect(new InetSocketAddress(host, port));
+            session = new NioTelnetSession(TelnetReactor.getInstance(), channel);
+            session.reactor.execute(() -> session.register(connected));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        try {
+            session.awaitConnected(timeout);
+        } catch (IOException e) {
+            session.close();
+            throw e;
+        }
+        return session;
+    }
+
+    /**
+     * Writes the data, doubling the IAC characters. The data is written by the reactor thread.
+     *
+     * @param data data to write
+     */
+    void write(String data) throws IOException {
+        checkOpen();
+        ByteBuffer buffer = ByteBuffer.allocate(data.length() * 2);
+        for (int i = 0; i < data.length(); i++) {
+            byte b = (byte) data.charAt(i);
+            buffer.put(b);
+            if ((b & 0xFF) == IAC) {
+                buffer.put(b);
+            }
+        }
+        buffer.flip();
+        pendingWrites.add(buffer);
+        reactor.execute(this::flushWrites);
+    }
+
+    /**
+     * Waits for the response to be complete. The condition is checked every time the data is received, the data
+     * is consumed when the response is complete, rejected by the condition or timed out.
+     *
+     * @param condition response completeness check
+     * @param timeout response timeout, ms
+     * @param command command the response is read for, to be reported in the timeout error
+     * @return complete response
+     */
+    String read(ResponseCondition condition, long timeout, String command) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        long checkedVersion = -1;
+        lock.lock();
+        try {
+            while (true) {
+                if (checkedVersion != receivedVersion) {
+                    checkedVersion = receivedVersion;
+                    String response = received.toString();
+                    boolean complete;
+                    try {
+                        complete = condition.isComplete(response);
+                    } catch (Exception e) {
+                        received.setLength(0);
+                        throw e;
+                    }
+                    if (complete) {
+                        received.setLength(0);
+                        return response;
+                    }
+                }
+                if (failure != null) {
+                    throw new IOException("Connection was forcible closed", failure);
+                }
+                if (closed) {
+                    throw new IOException("Connection was forcible closed");
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    String response = received.toString();
+                    received.setLength(0);
+                    throw new IOException("The read operation timed out. Command sent was (null if logging in): " + command + " Data read so far: " + response);
+                }
+                stateChanged.awaitNanos(remaining);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether the session is connected and is not closed or failed
+     *
+     * @return true if the session can be used
+     */
+    boolean isOpen() {
+        lock.lock();
+        try {
+            return connected && !closed && failure == null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            closed = true;
+            stateChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        channel.close();
+    }
+
+    /**
+     * Fails the session, waking up the reader. Called by the reactor thread.
+     *
+     * @param e failure cause
+     */
+    void fail(IOException e) {
+        lock.lock();
+        try {
+            if (failure == null) {
+                failure = e;
+            }
+            stateChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // the session is failed already
+        }
+    }
+
+    /**
+     * Completes the connection. Called by the reactor thread.
+     */
+    void onConnectable() throws IOException {
+        if (channel.finishConnect()) {
+            key.interestOps(SelectionKey.OP_READ);
+            markConnected();
+        }
+    }
+
+    /**
+     * Reads all the data available, handling the telnet IAC sequences. Called by the reactor thread.
+     *
+     * @param buffer read buffer of the reactor
+     */
+    void onReadable(ByteBuffer buffer) throws IOException {
+        boolean endOfStream = false;
+        int count;
+        while (true) {
+            buffer.clear();
+            count = channel.read(buffer);
+            if (count <= 0) {
+                endOfStream = count < 0;
+                break;
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                process(buffer.get() & 0xFF);
+            }
+        }
+        flushWrites();
+        lock.lock();
+        try {
+            if (decoded.length() > 0) {
+                received.append(decoded);
+                decoded.setLength(0);
+                receivedVersion++;
+            }
+            if (endOfStream) {
+                closed = true;
+            }
+            stateChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (endOfStream) {
+            key.cancel();
+            channel.close();
+        }
+    }
+
+    /**
+     * Writes the pending data. Called by the reactor thread.
+     */
+    void onWritable() throws IOException {
+        flushWrites();
+    }
+
+    private void register(boolean connectedImmediately) {
+        try {
+            key = channel.register(reactor.getSelector(), connectedImmediately ? SelectionKey.OP_READ : SelectionKey.OP_CONNECT, this);
+            if (connectedImmediately) {
+                markConnected();
+            }
+        } catch (ClosedChannelException e) {
+            fail(e);
+        }
+    }
+
+    private void markConnected() {
+        lock.lock();
+        try {
+            connected = true;
+            stateChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void awaitConnected(long timeout) throws IOException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        lock.lock();
+        try {
+            while (!connected) {
+                if (failure != null) {
+                    throw failure;
+                }
+                if (closed) {
+                    throw new IOException("Connection is closed");
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new IOException("Connection timed out");
+                }
+                stateChanged.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while connecting", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void checkOpen() throws IOException {
+        if (!isOpen()) {
+            throw new IOException("Telnet session is closed");
+        }
+    }
+
+    private void flushWrites() {
+        if (key == null || !key.isValid()) {
+            return;
+        }
+        try {
+            ByteBuffer buffer;
+            while ((buffer = pendingWrites.peek()) != null) {
+                channel.write(buffer);
+                if (buffer.hasRemaining()) {
+                    key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+                    return;
+                }
+                pendingWrites.poll();
+            }
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Processes a single byte received, passing the data characters to {@link #decoded}
+     *
+     * @param b byte received
+     */
+    private void process(int b) {
+        switch (iacState) {
+            case STATE_IAC:
+                if (b == IAC) {
+                    decoded.append((char) b);
+                    iacState = STATE_DATA;
+                } else if (b == WILL || b == WONT || b == DO || b == DONT) {
+                    iacCommand = b;
+                    iacState = STATE_OPTION;
+                } else if (b == SB) {
+                    iacState = STATE_SUBNEGOTIATION;
+                } else {
+                    iacState = STATE_DATA;
+                }
+                break;
+            case STATE_OPTION:
+                negotiate(iacCommand, b);
+                iacState = STATE_DATA;
+                break;
+            case STATE_SUBNEGOTIATION:
+                if (b == IAC) {
+                    iacState = STATE_SUBNEGOTIATION_IAC;
+                }
+                break;
+            case STATE_SUBNEGOTIATION_IAC:
+                iacState = b == SE ? STATE_DATA : STATE_SUBNEGOTIATION;
+                break;
+            default:
+                if (b == IAC) {
+                    iacState = STATE_IAC;
+                } else if (b != 0) {
+                    decoded.append((char) b);
+                }
+                break;
+        }
+    }
+
+    /**
+     * Responds to the option negotiation, once per command and option, so the negotiation doesn't loop
+     *
+     * @param command WILL, WONT, DO or DONT
+     * @param option telnet option
+     */
+    private void negotiate(int command, int option) {
+        if (negotiated[command - WILL][option]) {
+            return;
+        }
+        negotiated[command - WILL][option] = true;
+        int response;
+        switch (command) {
+            case WILL:
+                response = option == OPTION_ECHO || option == OPTION_SUPPRESS_GO_AHEAD ? DO : DONT;
+                break;
+            case DO:
+                response = WONT;
+                break;
+            default:
+                return;
+        }
+        pendingWrites.add(ByteBuffer.wrap(new byte[]{(byte) IAC, (byte) response, (byte) option}));
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.netgear;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Communicator performance metrics: latency histograms of the telnet commands, paginated responses and parsers,
+ * response sizes, page counts, telnet operations lock wait time and the number of connections.
+ * Latencies are accumulated into fixed buckets, so recording is lock-free and doesn't allocate once the
+ * metric is created. Percentiles are reported as the upper bound of the bucket they fall into.
+ */
+final class PerformanceMetrics implements PerformanceMetricsMXBean {
+    static final String COMMAND = "Command";
+    static final String FETCH = "Fetch";
+    static final String PARSE = "Parse";
+
+    private static final long[] BUCKET_BOUNDS_MS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000};
+
+    private final Map<String, Metric> metrics = new ConcurrentHashMap<>();
+    private final LongAdder connections = new LongAdder();
+    private final LongAdder reconnects = new LongAdder();
+    private final Metric connect = new Metric();
+    private final Metric lockWait = new Metric();
+    private final LongSupplier nanoClock;
+
+    /**
+     * Creates the metrics measured with {@link System#nanoTime()}
+     */
+    PerformanceMetrics() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Creates the metrics measured with the given clock
+     *
+     * @param nanoClock clock the operations end time is retrieved from, ns
+     */
+    PerformanceMetrics(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Retrieves current time of the metrics clock, to pass as the operation start time
+     *
+     * @return current time, ns
+     */
+    long nanoTime() {
+        return nanoClock.getAsLong();
+    }
+
+    /**
+     * Records telnet command execution
+     *
+     * @param command command name
+     * @param startNanos command start time, {@link #nanoTime()}
+     * @param responseBytes response size
+     */
+    void recordCommand(String command, long startNanos, int responseBytes) {
+        metric(COMMAND, command).record(nanoTime() - startNanos, responseBytes, 0);
+    }
+
+    /**
+     * Records collection of a paginated response
+     *
+     * @param command command name
+     * @param startNanos collection start time, {@link #nanoTime()}
+     * @param responseBytes response size
+     * @param pages number of pages fetched
+     */
+    void recordFetch(String command, long startNanos, int responseBytes, int pages) {
+        metric(FETCH, command).record(nanoTime() - startNanos, responseBytes, pages);
+    }
+
+    /**
+     * Records response parsing
+     *
+     * @param parser parser name
+     * @param startNanos parsing start time, {@link #nanoTime()}
+     */
+    void recordParse(String parser, long startNanos) {
+        metric(PARSE, parser).record(nanoTime() - startNanos, 0, 0);
+    }
+
+    /**
+     * Records telnet session establishment, including login
+     *
+     * @param startNanos connection start time, {@link #nanoTime()}
+     */
+    void recordConnect(long startNanos) {
+        connections.increment();
+        connect.record(nanoTime() - startNanos, 0, 0);
+    }
+
+    /**
+     * Records re-creation of a stale telnet session
+     */
+    void recordReconnect() {
+        reconnects.increment();
+    }
+
+    /**
+     * Records telnet operations lock wait
+     *
+     * @param waitNanos time spent waiting for the lock
+     */
+    void recordLockWait(long waitNanos) {
+        lockWait.record(waitNanos, 0, 0);
+    }
+
+    /**
+     * Creates statistics entries for all the metrics
+     *
+     * @param group statistics group name, with the trailing "#"
+     * @return map of statistics name:value entries
+     */
+    Map<String, String> toStatistics(String group) {
+        Map<String, String> statistics = new LinkedHashMap<>();
+        statistics.put(group + "Connections", String.valueOf(connections.sum()));
+        statistics.put(group + "Reconnects", String.valueOf(reconnects.sum()));
+        connect.toStatistics(group + "Connect", statistics);
+        lockWait.toStatistics(group + "Lock Wait", statistics);
+        new TreeMap<>(metrics).forEach((name, metric) -> metric.toStatistics(group + name, statistics));
+        return statistics;
+    }
+
+    @Override
+    public Map<String, String> getMetrics() {
+        return toStatistics("");
+    }
+
+    @Override
+    public long getConnections() {
+        return connections.sum();
+    }
+
+    @Override
+    public long getReconnects() {
+        return reconnects.sum();
+    }
+
+    @Override
+    public long getLockWaitTime() {
+        return TimeUnit.NANOSECONDS.toMillis(lockWait.totalNanos.sum());
+    }
+
+    @Override
+    public void reset() {
+        metrics.clear();
+        connections.reset();
+        reconnects.reset();
+        connect.reset();
+        lockWait.reset();
+    }
+
+    private Metric metric(String category, String name) {
+        return metrics.computeIfAbsent(category + " (" + name + ")", key -> new Metric());
+    }
+
+    /**
+     * Latency histogram along with the response sizes and page counts of a single operation
+     */
+    private static final class Metric {
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS_MS.length + 1);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder totalBytes = new LongAdder();
+        private final LongAdder totalPages = new LongAdder();
+
+        void record(long nanos, int bytes, int pages) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MS.length && millis >= BUCKET_BOUNDS_MS[bucket]) {
+                bucket++;
+            }
+            buckets.incrementAndGet(bucket);
+            count.increment();
+            totalNanos.add(nanos);
+            totalBytes.add(bytes);
+            totalPages.add(pages);
+        }
+
+        void reset() {
+            for (int i = 0; i < buckets.length(); i++) {
+                buckets.set(i, 0);
+            }
+            count.reset();
+            totalNanos.reset();
+            totalBytes.reset();
+            totalPages.reset();
+        }
+
+        void toStatistics(String name, Map<String, String> statistics) {
+            long calls = count.sum();
+            statistics.put(name + " Calls", String.valueOf(calls));
+            if (calls == 0) {
+                return;
+            }
+            statistics.put(name + " Avg Latency (ms)", String.valueOf(TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / calls)));
+            statistics.put(name + " p50 Latency (ms)", percentile(calls, 0.5));
+            statistics.put(name + " p99 Latency (ms)", percentile(calls, 0.99));
+            long bytes = totalBytes.sum();
+            if (bytes > 0) {
+                statistics.put(name + " Avg Response Bytes", String.valueOf(bytes / calls));
+            }
+            long pages = totalPages.sum();
+            if (pages > 0) {
+                statistics.put(name + " Avg Pages", String.valueOf(pages / calls));
+            }
+        }
+
+        private String percentile(long calls, double percentile) {
+            long threshold = (long) Math.ceil(calls * percentile);
+            long accumulated = 0;
+            for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+                accumulated += buckets.get(i);
+                if (accumulated >= threshold) {
+                    return "<" + BUCKET_BOUNDS_MS[i];
+                }
+            }
+            return ">" + BUCKET_BOUNDS_MS[BUCKET_BOUNDS_MS.length - 1];
+        }
+    }
+}
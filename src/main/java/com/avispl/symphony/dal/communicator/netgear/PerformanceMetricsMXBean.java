@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.netgear;
+
+import java.util.Map;
+
+/**
+ * JMX view of the communicator performance metrics, registered when the performance metrics are enabled
+ */
+public interface PerformanceMetricsMXBean {
+
+    /**
+     * Retrieves all the metrics in a form of the statistics entries, without the group prefix
+     *
+     * @return map of metric name:value entries
+     */
+    Map<String, String> getMetrics();
+
+    /**
+     * Retrieves number of telnet sessions established
+     *
+     * @return number of connections
+     */
+    long getConnections();
+
+    /**
+     * Retrieves number of stale telnet sessions re-created
+     *
+     * @return number of reconnects
+     */
+    long getReconnects();
+
+    /**
+     * Retrieves total time spent waiting for the telnet operations lock
+     *
+     * @return lock wait time, ms
+     */
+    long getLockWaitTime();
+
+    /**
+     * Resets all the metrics
+     */
+    void reset();
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.netgear;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Calculates per second rates of the packet counters, based on the values retrieved by successive polls.
+ * Previous samples are kept in primitive arrays, indexed through an open addressing table of the ports encoded
+ * as unit/slot/port integers, and the rate statistics names are created once per port, so no objects are
+ * allocated per port per poll apart from the rate values.
+ * Counters reset is detected by a decrease of the "Time Since Counters Last Cleared" value. A counter decrease
+ * is taken as a wrap only for the 32-bit counters, and only if the counter has dropped by more than half of the
+ * range, so a single port counters clear is not reported as a 4.29e9 spike. Any other decrease is taken as a reset.
+ */
+final class PortCounterRateTracker {
+    static final String PORT_STATISTICS_PREFIX = "Ports Packets Statistics#Port ";
+    static final String RECEIVED_SUFFIX = " Received";
+    static final String TRANSMITTED_SUFFIX = " Transmitted";
+    static final String RECEIVED_RATE_SUFFIX = " Received Rate (pps)";
+    static final String TRANSMITTED_RATE_SUFFIX = " Transmitted Rate (pps)";
+
+    static final String TOTAL_RECEIVED = "TotalPacketsStatistics#Total Packets Received Without Errors";
+    static final String TOTAL_TRANSMITTED = "TotalPacketsStatistics#Total Packets Transmitted Without Errors";
+    static final String TOTAL_RECEIVED_ERRORS = "TotalPacketsStatistics#Total Packets Received With Errors";
+    static final String TOTAL_TRANSMITTED_ERRORS = "TotalPacketsStatistics#Total Packets Transmitted With Errors";
+    static final String COUNTERS_CLEARED = "TotalPacketsStatistics#Time Since Counters Last Cleared";
+
+    private static final String[] TOTAL_COUNTERS = {TOTAL_RECEIVED, TOTAL_TRANSMITTED, TOTAL_RECEIVED_ERRORS, TOTAL_TRANSMITTED_ERRORS};
+    private static final String[] TOTAL_RATES = {"TotalPacketsStatistics#Received Rate (pps)", "TotalPacketsStatistics#Transmitted Rate (pps)",
+            "TotalPacketsStatistics#Received Errors Rate (pps)", "TotalPacketsStatistics#Transmitted Errors Rate (pps)"};
+
+    /**
+     * Width of the counters retrieved over telnet, that wrap at 2^32
+     */
+    static final int COUNTER_32_BITS = 32;
+    /**
+     * Width of the IF-MIB high capacity counters, retrieved over SNMP, that never wrap in practice
+     */
+    static final int COUNTER_64_BITS = 64;
+
+    private static final long COUNTER_32_RANGE = 1L << 32;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] portKeys = new int[INITIAL_CAPACITY * 2];
+    private int[] portSlots = new int[INITIAL_CAPACITY * 2];
+    private int portsCount;
+
+    private long[] received = new long[INITIAL_CAPACITY];
+    private long[] transmitted = new long[INITIAL_CAPACITY];
+    private int[] receivedSamplePoll = new int[INITIAL_CAPACITY];
+    private int[] transmittedSamplePoll = new int[INITIAL_CAPACITY];
+    private String[] receivedRateNames = new String[INITIAL_CAPACITY];
+    private String[] transmittedRateNames = new String[INITIAL_CAPACITY];
+
+    private final long[] totals = new long[TOTAL_COUNTERS.length];
+    private final int[] totalsSamplePoll = new int[TOTAL_COUNTERS.length];
+
+    /**
+     * Poll sequence number, starts with 1 so the zero-initialized sample polls never match the previous poll
+     */
+    private int poll = 1;
+    private long lastPollTimestamp;
+    private long lastCountersClearedSeconds = -1;
+    private final StringBuilder rateBuilder = new StringBuilder();
+
+    /**
+     * Calculates rates for the counters retrieved. Rates are not reported for the first poll, and for the
+     * counters that were not retrieved by the previous poll.
+     *
+     * @param portsStatistics ports packets statistics, "Ports Packets Statistics#Port X Received/Transmitted" entries
+     * @param packetsData total packets statistics, including "Time Since Counters Last Cleared" if available
+     * @param counterWidth width of the counters, {@link #COUNTER_32_BITS} or {@link #COUNTER_64_BITS}
+     * @param timestamp poll timestamp, ms
+     * @param rates map to put the rates to
+     */
+    synchronized void update(Map<String, String> portsStatistics, Map<String, String> packetsData, int counterWidth,
+                             long timestamp, Map<String, String> rates) {
+        boolean wrapping = counterWidth == COUNTER_32_BITS;
+        poll++;
+        double elapsedSeconds = (timestamp - lastPollTimestamp) / 1000.0;
+        long countersClearedSeconds = parseDuration(packetsData.get(COUNTERS_CLEARED));
+        boolean countersReset = countersClearedSeconds >= 0 && countersClearedSeconds < lastCountersClearedSeconds;
+        if (countersReset && countersClearedSeconds < elapsedSeconds) {
+            // counters were cleared within the poll interval, so the current values are collected since then
+            elapsedSeconds = countersClearedSeconds;
+        }
+        lastCountersClearedSeconds = countersClearedSeconds;
+        lastPollTimestamp = timestamp;
+        boolean ratesAvailable = elapsedSeconds > 0;
+
+        for (Map.Entry<String, String> statistic : portsStatistics.entrySet()) {
+            String name = statistic.getKey();
+            boolean isReceived = name.endsWith(RECEIVED_SUFFIX);
+            if (!name.startsWith(PORT_STATISTICS_PREFIX) || (!isReceived && !name.endsWith(TRANSMITTED_SUFFIX))) {
+                continue;
+            }
+            int portEnd = name.length() - (isReceived ? RECEIVED_SUFFIX.length() : TRANSMITTED_SUFFIX.length());
+            int port = encodePort(name, PORT_STATISTICS_PREFIX.length(), portEnd);
+            long value = parseCounter(statistic.getValue());
+            if (port < 0 || value < 0) {
+                continue;
+            }
+            int slot = portSlot(port, name, portEnd);
+            long[] samples = isReceived ? received : transmitted;
+            int[] samplePolls = isReceived ? receivedSamplePoll : transmittedSamplePoll;
+            if (ratesAvailable && samplePolls[slot] == poll - 1) {
+                rates.put(isReceived ? receivedRateNames[slot] : transmittedRateNames[slot],
+                        formatRate(delta(samples[slot], value, countersReset, wrapping), elapsedSeconds));
+            }
+            samples[slot] = value;
+            samplePolls[slot] = poll;
+        }
+
+        for (int i = 0; i < TOTAL_COUNTERS.length; i++) {
+            long value = parseCounter(packetsData.get(TOTAL_COUNTERS[i]));
+            if (value < 0) {
+                continue;
+            }
+            if (ratesAvailable && totalsSamplePoll[i] == poll - 1) {
+                rates.put(TOTAL_RATES[i], formatRate(delta(totals[i], value, countersReset, wrapping), elapsedSeconds));
+            }
+            totals[i] = value;
+            totalsSamplePoll[i] = poll;
+        }
+    }
+
+    /**
+     * Parses "12 day 3 hr 45 min 12 sec" duration into seconds
+     *
+     * @param duration duration value
+     * @return duration in seconds, or -1 if the value is missing or cannot be parsed
+     */
+    static long parseDuration(String duration) {
+        if (duration == null) {
+            return -1;
+        }
+        long seconds = 0;
+        long number = -1;
+        boolean parsed = false;
+        int length = duration.length();
+        int i = 0;
+        while (i < length) {
+            char c = duration.charAt(i);
+            if (c >= '0' && c <= '9') {
+                number = (number < 0 ? 0 : number * 10) + (c - '0');
+                i++;
+            } else if (Character.isLetter(c)) {
+                if (number < 0) {
+                    return -1;
+                }
+                switch (Character.toLowerCase(c)) {
+                    case 'd':
+                        seconds += number * 86400;
+                        break;
+                    case 'h':
+                        seconds += number * 3600;
+                        break;
+                    case 'm':
+                        seconds += number * 60;
+                        break;
+                    case 's':
+                        seconds += number;
+                        break;
+                    default:
+                        return -1;
+                }
+                parsed = true;
+                number = -1;
+                while (i < length && Character.isLetter(duration.charAt(i))) {
+                    i++;
+                }
+            } else {
+                i++;
+            }
+        }
+        return parsed ? seconds : -1;
+    }
+
+    /**
+     * Calculates counter increment since the previous sample
+     *
+     * @param previous previous counter value
+     * @param current current counter value
+     * @param countersReset whether the counters were cleared since the previous sample
+     * @param wrapping whether the counter is a 32-bit counter, that wraps at 2^32
+     * @return counter increment
+     */
+    private static long delta(long previous, long current, boolean countersReset, boolean wrapping) {
+        if (countersReset) {
+            return current;
+        }
+        if (current >= previous) {
+            return current - previous;
+        }
+        if (wrapping && previous < COUNTER_32_RANGE && previous - current > COUNTER_32_RANGE / 2) {
+            return current + COUNTER_32_RANGE - previous;
+        }
+        // the counter was cleared separately, e.g. a single port clear or a reload without the cleared time
+        return current;
+    }
+
+    /**
+     * Formats the rate with 2 decimal places
+     *
+     * @param delta counter increment
+     * @param elapsedSeconds period of the increment
+     * @return rate value
+     */
+    private String formatRate(long delta, double elapsedSeconds) {
+        long hundredths = Math.round(delta * 100 / elapsedSeconds);
+        rateBuilder.setLength(0);
+        rateBuilder.append(hundredths / 100).append('.');
+        long fraction = hundredths % 100;
+        if (fraction < 10) {
+            rateBuilder.append('0');
+        }
+        return rateBuilder.append(fraction).toString();
+    }
+
+    /**
+     * Parses non-negative counter value, without allocating intermediate objects
+     *
+     * @param value counter value
+     * @return counter value or -1 if the value is missing or is not a number
+     */
+    private static long parseCounter(String value) {
+        if (value == null || value.isEmpty()) {
+            return -1;
+        }
+        long result = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    /**
+     * Encodes unit/slot/port port name as a positive integer, 10 bits per number
+     *
+     * @param name statistics name containing the port name
+     * @param start port name start index
+     * @param end port name end index (exclusive)
+     * @return encoded port or -1 if the port name is not in unit/slot/port format
+     */
+    private static int encodePort(String name, int start, int end) {
+        int encoded = 0;
+        int number = -1;
+        int separators = 0;
+        for (int i = start; i < end; i++) {
+            char c = name.charAt(i);
+            if (c >= '0' && c <= '9') {
+                number = (number < 0 ? 0 : number * 10) + (c - '0');
+                if (number > 0x3FF) {
+                    return -1;
+                }
+            } else if (c == '/' && number >= 0 && separators < 2) {
+                encoded = (encoded << 10) | number;
+                number = -1;
+                separators++;
+            } else {
+                return -1;
+            }
+        }
+        if (number < 0 || separators != 2) {
+            return -1;
+        }
+        return (encoded << 10) | number;
+    }
+
+    /**
+     * Finds the slot of the port within the samples arrays, allocates one if the port is new
+     *
+     * @param port encoded port
+     * @param name statistics name containing the port name
+     * @param portEnd port name end index (exclusive)
+     * @return slot index
+     */
+    private int portSlot(int port, String name, int portEnd) {
+        int mask = portKeys.length - 1;
+        int index = mix(port) & mask;
+        while (portKeys[index] != 0) {
+            if (portKeys[index] == port + 1) {
+                return portSlots[index];
+            }
+            index = (index + 1) & mask;
+        }
+        int slot = portsCount++;
+        if (slot == received.length) {
+            growSamples();
+        }
+        String portName = name.substring(PORT_STATISTICS_PREFIX.length(), portEnd);
+        receivedRateNames[slot] = PORT_STATISTICS_PREFIX + portName + RECEIVED_RATE_SUFFIX;
+        transmittedRateNames[slot] = PORT_STATISTICS_PREFIX + portName + TRANSMITTED_RATE_SUFFIX;
+        if (portsCount * 2 > portKeys.length) {
+            growPortTable();
+            index = mix(port) & (portKeys.length - 1);
+            while (portKeys[index] != 0) {
+                index = (index + 1) & (portKeys.length - 1);
+            }
+        }
+        portKeys[index] = port + 1;
+        portSlots[index] = slot;
+        return slot;
+    }
+
+    private void growSamples() {
+        int capacity = received.length * 2;
+        received = Arrays.copyOf(received, capacity);
+        transmitted = Arrays.copyOf(transmitted, capacity);
+        receivedSamplePoll = Arrays.copyOf(receivedSamplePoll, capacity);
+        transmittedSamplePoll = Arrays.copyOf(transmittedSamplePoll, capacity);
+        receivedRateNames = Arrays.copyOf(receivedRateNames, capacity);
+        transmittedRateNames = Arrays.copyOf(transmittedRateNames, capacity);
+    }
+
+    private void growPortTable() {
+        int[] oldKeys = portKeys;
+        int[] oldSlots = portSlots;
+        portKeys = new int[oldKeys.length * 2];
+        portSlots = new int[oldKeys.length * 2];
+        int mask = portKeys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int index = mix(oldKeys[i] - 1) & mask;
+                while (portKeys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                portKeys[index] = oldKeys[i];
+                portSlots[index] = oldSlots[i];
+            }
+        }
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.netgear;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongPredicate;
+
+/**
+ * Tracks the stack reload: once the reload is confirmed, the switch is probed with a cheap reachability check,
+ * with the probe interval doubled after every attempt up to the max interval. As soon as the switch is reachable -
+ * the statistics are refreshed, which succeeds only once the CLI is available again. The reload is complete when
+ * the refresh succeeds.
+ * The first probe is sent after the initial probe interval, so the switch has time to go down. If the switch
+ * doesn't come back within the max reload duration - the reload tracking is stopped, so the switch is polled
+ * and reported as failed the regular way.
+ * A single scheduler thread is used for the whole lifetime of the adapter.
+ */
+final class ReloadMonitor {
+    private final ScheduledExecutorService scheduler;
+    private final BooleanSupplier probe;
+    private final LongPredicate refresh;
+    private volatile boolean reloading;
+    private volatile boolean statisticsRefreshed;
+    private volatile long reloadDeadline = Long.MAX_VALUE;
+    private long reloadStartTime;
+    private long probeInterval;
+    private long maxProbeInterval;
+    private ScheduledFuture<?> probeTask;
+
+    /**
+     * Creates the monitor with a daemon scheduler thread
+     *
+     * @param threadName name of the scheduler thread
+     * @param probe reachability check of the switch
+     * @param refresh statistics refresh, accepts the reload duration (ms) so far and returns true if the statistics
+     * are collected
+     */
+    ReloadMonitor(String threadName, BooleanSupplier probe, LongPredicate refresh) {
+        this.probe = probe;
+        this.refresh = refresh;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts tracking the reload, if it's not tracked already
+     *
+     * @param reloadStartTime time the reload was confirmed
+     * @param initialProbeInterval period (ms) before the first probe
+     * @param maxProbeInterval upper limit (ms) of the probe interval
+     * @param maxReloadDuration period (ms) after the reload confirmation, after which the reload tracking is stopped,
+     * 0 or less means no limit
+     */
+    synchronized void reloadStarted(long reloadStartTime, long initialProbeInterval, long maxProbeInterval, long maxReloadDuration) {
+        if (reloading || scheduler.isShutdown()) {
+            return;
+        }
+        reloading = true;
+        statisticsRefreshed = false;
+        this.reloadStartTime = reloadStartTime;
+        this.probeInterval = Math.max(1, initialProbeInterval);
+        this.maxProbeInterval = Math.max(this.probeInterval, maxProbeInterval);
+        reloadDeadline = maxReloadDuration > 0 ? reloadStartTime + maxReloadDuration : Long.MAX_VALUE;
+        probeTask = scheduler.schedule(this::probe, probeInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Checks whether the reload is in progress. Can be called without synchronization.
+     *
+     * @return true if the reload is confirmed, the statistics haven't been refreshed since then, and the max
+     * reload duration hasn't passed
+     */
+    boolean isReloading() {
+        if (reloading && System.currentTimeMillis() >= reloadDeadline) {
+            expire();
+        }
+        return reloading;
+    }
+
+    /**
+     * Checks whether the statistics have been refreshed on reload completion and haven't been reported yet,
+     * clearing the flag
+     *
+     * @return true if the statistics refreshed on reload completion have to be reported
+     */
+    boolean consumeRefreshedStatistics() {
+        boolean refreshed = statisticsRefreshed;
+        statisticsRefreshed = false;
+        return refreshed;
+    }
+
+    /**
+     * Retrieves {@link #reloadStartTime}
+     *
+     * @return time the last reload was confirmed
+     */
+    synchronized long getReloadStartTime() {
+        return reloadStartTime;
+    }
+
+    /**
+     * Stops the scheduler thread, the reload tracking is cancelled
+     */
+    synchronized void shutdown() {
+        scheduler.shutdownNow();
+        reloading = false;
+    }
+
+    /**
+     * Stops the reload tracking once the max reload duration has passed
+     */
+    private synchronized void expire() {
+        if (!reloading || System.currentTimeMillis() < reloadDeadline) {
+            return;
+        }
+        reloading = false;
+        reloadDeadline = Long.MAX_VALUE;
+        if (probeTask != null) {
+            probeTask.cancel(false);
+            probeTask = null;
+        }
+    }
+
+    private void probe() {
+        if (!isReloading()) {
+            return;
+        }
+        if (probe.getAsBoolean() && refresh.test(System.currentTimeMillis() - getReloadStartTime())) {
+            synchronized (this) {
+                statisticsRefreshed = true;
+                reloading = false;
+            }
+            return;
+        }
+        synchronized (this) {
+            if (scheduler.isShutdown() || !reloading) {
+                return;
+            }
+            probeInterval = Math.min(probeInterval * 2, maxProbeInterval);
+            probeTask = scheduler.schedule(this::probe, probeInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.netgear;
+
+/**
+ * Assembles lines of a paginated telnet response page by page and passes them to a {@link NetGearResponseParser.LineParser}
+ * as soon as the page is received, so the complete response is never accumulated. Lines that are entirely within
+ * a page are parsed in place, only the line split between the pages is copied.
+ * The pagination prompt at the end of a page terminates the current line, same as a line break would.
+ */
+final class ResponseLineAssembler {
+    private final String paginationPrompt;
+    private final NetGearResponseParser.LineParser parser;
+    private final StringBuilder partialLine = new StringBuilder();
+    private long parseTime;
+
+    /**
+     * Creates the assembler
+     *
+     * @param paginationPrompt prompt that ends a page if there are more pages to fetch
+     * @param parser parser to pass the lines to
+     */
+    ResponseLineAssembler(String paginationPrompt, NetGearResponseParser.LineParser parser) {
+        this.paginationPrompt = paginationPrompt;
+        this.parser = parser;
+    }
+
+    /**
+     * Parses all the complete lines of the page, the trailing incomplete line is kept until the next page
+     * or {@link #finish()}
+     *
+     * @param page response page
+     */
+    void append(String page) {
+        long startTime = System.nanoTime();
+        boolean paginated = page.endsWith(paginationPrompt);
+        int end = paginated ? page.length() - paginationPrompt.length() : page.length();
+        int lineStart = 0;
+        if (partialLine.length() > 0) {
+            int lineEnd = lineEnd(page, 0, end);
+            partialLine.append(page, 0, lineEnd);
+            if (lineEnd == end && !paginated) {
+                parseTime += System.nanoTime() - startTime;
+                return;
+            }
+            flushPartialLine();
+            lineStart = lineEnd + 1;
+        }
+        while (lineStart < end) {
+            int lineEnd = lineEnd(page, lineStart, end);
+            if (lineEnd == end && !paginated) {
+                partialLine.append(page, lineStart, end);
+                break;
+            }
+            if (lineEnd > lineStart) {
+                parser.parseLine(page, lineStart, lineEnd);
+            }
+            lineStart = lineEnd + 1;
+        }
+        parseTime += System.nanoTime() - startTime;
+    }
+
+    /**
+     * Parses the last line of the response, if it's not terminated by a line break
+     */
+    void finish() {
+        long startTime = System.nanoTime();
+        flushPartialLine();
+        parseTime += System.nanoTime() - startTime;
+    }
+
+    /**
+     * Retrieves {@link #parseTime}
+     *
+     * @return total time (ns) spent on parsing the pages
+     */
+    long getParseTime() {
+        return parseTime;
+    }
+
+    private void flushPartialLine() {
+        if (partialLine.length() > 0) {
+            parser.parseLine(partialLine.toString(), 0, partialLine.length());
+            partialLine.setLength(0);
+        }
+    }
+
+    /**
+     * Finds the end of the line within the page region
+     *
+     * @param page response page
+     * @param lineStart line start index
+     * @param end region end index (exclusive)
+     * @return index of the "\r" or "\n" character that ends the line, or region end
+     */
+    private static int lineEnd(String page, int lineStart, int end) {
+        for (int i = lineStart; i < end; i++) {
+            char c = page.charAt(i);
+            if (c == '\n' || c == '\r') {
+                return i;
+            }
+        }
+        return end;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.netgear;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Digest of the "show running-config" response, calculated line by line as the response pages are received, so
+ * the configuration is never kept in memory. The comment lines (starting with "!") are skipped, since the
+ * configuration header contains the system up time and the current time, that change with every response.
+ * The digest is used to detect configuration changes only, so it has to be used for a single response, or
+ * {@link #reset()} before the response is digested again.
+ */
+final class RunningConfigDigest implements NetGearResponseParser.LineParser {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final MessageDigest messageDigest;
+    private int linesCount;
+
+    /**
+     * Creates the digest
+     */
+    RunningConfigDigest() {
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    @Override
+    public void parseLine(String text, int lineStart, int lineEnd) {
+        while (lineEnd > lineStart && text.charAt(lineEnd - 1) == ' ') {
+            lineEnd--;
+        }
+        if (lineEnd == lineStart || text.charAt(lineStart) == '!') {
+            return;
+        }
+        for (int i = lineStart; i < lineEnd; i++) {
+            messageDigest.update((byte) text.charAt(i));
+        }
+        messageDigest.update((byte) '\n');
+        linesCount++;
+    }
+
+    /**
+     * Drops the lines digested so far, so the response can be digested again
+     */
+    void reset() {
+        messageDigest.reset();
+        linesCount = 0;
+    }
+
+    /**
+     * Completes the digest
+     *
+     * @return hex SHA-256 digest of the configuration lines, or null if the response contains no configuration lines
+     */
+    String getDigest() {
+        if (linesCount == 0) {
+            return null;
+        }
+        byte[] digest = messageDigest.digest();
+        char[] hex = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hex[i * 2] = HEX_DIGITS[(digest[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX_DIGITS[digest[i] & 0xF];
+        }
+        return new String(hex);
+    }
+}
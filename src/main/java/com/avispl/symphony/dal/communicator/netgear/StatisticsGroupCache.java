@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.netgear;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cached copy of a statistics group that is retrieved less often than every statistics cycle.
+ * Keeps the last retrieved statistics along with the last refresh timestamp and the number of cycles
+ * passed since then.
+ */
+final class StatisticsGroupCache {
+    private Map<String, String> statistics = Collections.emptyMap();
+    private long lastRefreshTimestamp;
+    private int cyclesSinceRefresh;
+
+    /**
+     * Checks whether the group has to be refreshed within the current statistics cycle.
+     *
+     * @param refreshCycles number of statistics cycles between refreshes, 1 or less means every cycle
+     * @param refreshInterval minimal period (ms) between refreshes, 0 or less means no time limitation
+     * @return true if the group has never been retrieved, or both cycles and time limits have passed
+     */
+    boolean isRefreshRequired(int refreshCycles, long refreshInterval) {
+        if (lastRefreshTimestamp == 0) {
+            return true;
+        }
+        return cyclesSinceRefresh + 1 >= refreshCycles && System.currentTimeMillis() - lastRefreshTimestamp >= refreshInterval;
+    }
+
+    /**
+     * Replaces the cached statistics with the newly retrieved ones.
+     *
+     * @param statistics group statistics
+     */
+    void update(Map<String, String> statistics) {
+        this.statistics = Collections.unmodifiableMap(new LinkedHashMap<>(statistics));
+        lastRefreshTimestamp = System.currentTimeMillis();
+        cyclesSinceRefresh = 0;
+    }
+
+    /**
+     * Marks the statistics cycle, within which the cached statistics were used instead of refreshing them.
+     */
+    void skip() {
+        cyclesSinceRefresh++;
+    }
+
+    /**
+     * Retrieves {@link #statistics}
+     *
+     * @return value of {@link #statistics}
+     */
+    Map<String, String> getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Retrieves {@link #lastRefreshTimestamp}
+     *
+     * @return value of {@link #lastRefreshTimestamp}
+     */
+    long getLastRefreshTimestamp() {
+        return lastRefreshTimestamp;
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.netgear;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable copy of the last statistics collected. Is published through a volatile field, so it can be read
+ * without locking while the telnet session is occupied by the controls. Changes are applied by creating a
+ * new snapshot.
+ * Every snapshot keeps the names of the statistics entries that have changed compared to the previous snapshot.
+ * The changes of the control actions are accumulated, until the next statistics cycle snapshot replaces them.
+ * If nothing has changed - the statistics map and controllable properties list of the previous snapshot are shared.
+ */
+final class StatisticsSnapshot {
+    private final Map<String, String> statistics;
+    private final List<AdvancedControllableProperty> controllableProperties;
+    private final Map<String, AdvancedControllableProperty> controllablePropertiesByName;
+    private final Set<String> changedKeys;
+
+    /**
+     * Whether the snapshot is created by control actions, so {@link #changedKeys} are the properties controlled
+     * since the last statistics cycle
+     */
+    private final boolean controlled;
+
+    /**
+     * Creates a snapshot with copies of the statistics and controllable properties given, all the statistics
+     * entries are considered changed
+     *
+     * @param statistics statistics map
+     * @param controllableProperties controllable properties
+     */
+    StatisticsSnapshot(Map<String, String> statistics, List<AdvancedControllableProperty> controllableProperties) {
+        this(statistics, controllableProperties, null);
+    }
+
+    /**
+     * Creates a snapshot with copies of the statistics and controllable properties given, comparing them to the
+     * previous snapshot
+     *
+     * @param statistics statistics map
+     * @param controllableProperties controllable properties
+     * @param previous previous snapshot, or null if there's none
+     */
+    StatisticsSnapshot(Map<String, String> statistics, List<AdvancedControllableProperty> controllableProperties, StatisticsSnapshot previous) {
+        if (previous == null) {
+            this.statistics = Collections.unmodifiableMap(new LinkedHashMap<>(statistics));
+            this.changedKeys = Collections.unmodifiableSet(new LinkedHashSet<>(statistics.keySet()));
+        } else {
+            Set<String> changed = new LinkedHashSet<>();
+            for (Map.Entry<String, String> entry : statistics.entrySet()) {
+                String previousValue = previous.statistics.get(entry.getKey());
+                if (!Objects.equals(previousValue, entry.getValue()) || previousValue == null && !previous.statistics.containsKey(entry.getKey())) {
+                    changed.add(entry.getKey());
+                }
+            }
+            for (String key : previous.statistics.keySet()) {
+                if (!statistics.containsKey(key)) {
+                    changed.add(key);
+                }
+            }
+            this.statistics = changed.isEmpty() ? previous.statistics : Collections.unmodifiableMap(new LinkedHashMap<>(statistics));
+            this.changedKeys = Collections.unmodifiableSet(changed);
+        }
+        this.controlled = false;
+        if (previous != null && sameElements(previous.controllableProperties, controllableProperties)) {
+            this.controllableProperties = previous.controllableProperties;
+            this.controllablePropertiesByName = previous.controllablePropertiesByName;
+        } else {
+            this.controllableProperties = Collections.unmodifiableList(new ArrayList<>(controllableProperties));
+            this.controllablePropertiesByName = new HashMap<>();
+            controllableProperties.forEach(property -> controllablePropertiesByName.put(property.getName(), property));
+        }
+    }
+
+    /**
+     * Creates a snapshot sharing the collections given
+     *
+     * @param statistics unmodifiable statistics map
+     * @param controllableProperties unmodifiable controllable properties
+     * @param controllablePropertiesByName controllable properties by name
+     * @param changedKeys unmodifiable set of changed statistics entries
+     * @param controlled value of {@link #controlled}
+     */
+    private StatisticsSnapshot(Map<String, String> statistics, List<AdvancedControllableProperty> controllableProperties,
+                               Map<String, AdvancedControllableProperty> controllablePropertiesByName, Set<String> changedKeys,
+                               boolean controlled) {
+        this.statistics = statistics;
+        this.controllableProperties = controllableProperties;
+        this.controllablePropertiesByName = controllablePropertiesByName;
+        this.changedKeys = changedKeys;
+        this.controlled = controlled;
+    }
+
+    /**
+     * Creates a copy of the snapshot with a changed value of a controllable property. Both the statistics entry
+     * and the controllable property are updated, the rest of the controllable properties are shared.
+     * The property is added to the properties controlled since the last statistics cycle.
+     *
+     * @param property controllable property name
+     * @param value new property value
+     * @return new snapshot
+     */
+    StatisticsSnapshot withControlValue(String property, String value) {
+        Map<String, String> newStatistics = new LinkedHashMap<>(statistics);
+        newStatistics.put(property, value);
+        List<AdvancedControllableProperty> newControllableProperties = new ArrayList<>(controllableProperties.size());
+        Map<String, AdvancedControllableProperty> newControllablePropertiesByName = new HashMap<>(controllablePropertiesByName);
+        for (AdvancedControllableProperty controllableProperty : controllableProperties) {
+            if (property.equals(controllableProperty.getName())) {
+                AdvancedControllableProperty newControllableProperty = new AdvancedControllableProperty(property, new Date(), controllableProperty.getType(), value);
+                newControllableProperties.add(newControllableProperty);
+                newControllablePropertiesByName.put(property, newControllableProperty);
+            } else {
+                newControllableProperties.add(controllableProperty);
+            }
+        }
+        Set<String> newChangedKeys = controlled ? new LinkedHashSet<>(changedKeys) : new LinkedHashSet<>();
+        newChangedKeys.add(property);
+        return new StatisticsSnapshot(Collections.unmodifiableMap(newStatistics), Collections.unmodifiableList(newControllableProperties),
+                newControllablePropertiesByName, Collections.unmodifiableSet(newChangedKeys), true);
+    }
+
+    /**
+     * Retrieves controllable property of the snapshot, so it can be reused by the next snapshot if its value
+     * hasn't changed
+     *
+     * @param name controllable property name
+     * @return controllable property or null if the snapshot doesn't have one
+     */
+    AdvancedControllableProperty getControllableProperty(String name) {
+        return controllablePropertiesByName.get(name);
+    }
+
+    /**
+     * Retrieves {@link #controllableProperties}
+     *
+     * @return value of {@link #controllableProperties}
+     */
+    List<AdvancedControllableProperty> getControllableProperties() {
+        return controllableProperties;
+    }
+
+    /**
+     * Retrieves {@link #changedKeys}
+     *
+     * @return names of the statistics entries that have changed compared to the previous snapshot
+     */
+    Set<String> getChangedKeys() {
+        return changedKeys;
+    }
+
+    /**
+     * Creates statistics DTO with mutable copies of the snapshot's statistics and controllable properties, so the
+     * DTO can be modified by the caller. The controllable property instances are shared.
+     *
+     * @return device statistics
+     */
+    ExtendedStatistics toExtendedStatistics() {
+        ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+        extendedStatistics.setStatistics(new LinkedHashMap<>(statistics));
+        extendedStatistics.setControllableProperties(new ArrayList<>(controllableProperties));
+        return extendedStatistics;
+    }
+
+    /**
+     * Retrieves {@link #statistics}
+     *
+     * @return value of {@link #statistics}
+     */
+    Map<String, String> getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Checks whether both lists contain the same instances in the same order
+     *
+     * @param previous controllable properties of the previous snapshot
+     * @param current controllable properties of the current snapshot
+     * @return true if the lists are equal by reference
+     */
+    private static boolean sameElements(List<AdvancedControllableProperty> previous, List<AdvancedControllableProperty> current) {
+        if (previous.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < previous.size(); i++) {
+            if (previous.get(i) != current.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
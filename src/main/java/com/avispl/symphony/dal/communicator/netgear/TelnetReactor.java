@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.netgear;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Single selector thread, shared by all the {@link NioTelnetSession} instances of the JVM, so the telnet sessions
+ * of many switches are multiplexed on one thread. The thread is a daemon thread, started with the first session.
+ * Channel registration and interest changes are submitted as tasks, that are executed by the selector thread.
+ * If the selector thread fails - all its sessions are failed, and a new reactor is started with the next session.
+ */
+final class TelnetReactor {
+    private static final int READ_BUFFER_SIZE = 16384;
+
+    private static TelnetReactor instance;
+
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+    private TelnetReactor() throws IOException {
+        selector = Selector.open();
+        Thread thread = new Thread(this::run, "NetGearCommunicator telnet reactor");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Retrieves the shared reactor, starts one if it's not started yet
+     *
+     * @return {@link TelnetReactor} instance
+     */
+    static synchronized TelnetReactor getInstance() throws IOException {
+        if (instance == null || !instance.selector.isOpen()) {
+            instance = new TelnetReactor();
+        }
+        return instance;
+    }
+
+    /**
+     * Submits a task to the selector thread
+     *
+     * @param task task to execute
+     */
+    void execute(Runnable task) {
+        tasks.add(task);
+        selector.wakeup();
+    }
+
+    /**
+     * Retrieves {@link #selector}
+     *
+     * @return value of {@link #selector}
+     */
+    Selector getSelector() {
+        return selector;
+    }
+
+    private void run() {
+        try {
+            while (selector.isOpen()) {
+                selector.select();
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    task.run();
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    process(key);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            IOException failure = new IOException("Telnet reactor has stopped", e);
+            for (SelectionKey key : selector.keys()) {
+                ((NioTelnetSession) key.attachment()).fail(failure);
+            }
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+                // the reactor is replaced with the next session anyway
+            }
+        }
+    }
+
+    private void process(SelectionKey key) {
+        NioTelnetSession session = (NioTelnetSession) key.attachment();
+        try {
+            if (key.isConnectable()) {
+                session.onConnectable();
+            }
+            if (key.isValid() && key.isReadable()) {
+                session.onReadable(readBuffer);
+            }
+            if (key.isValid() && key.isWritable()) {
+                session.onWritable();
+            }
+        } catch (IOException | CancelledKeyException e) {
+            session.fail(e instanceof IOException ? (IOException) e : new IOException("Telnet channel is closed", e));
+        }
+    }
+}
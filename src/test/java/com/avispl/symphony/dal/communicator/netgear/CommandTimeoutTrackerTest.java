@@ -0,0 +1,34 @@
+package com.avispl.symphony.dal.communicator.netgear;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+public class CommandTimeoutTrackerTest {
+
+    @Test
+    public void timeout() {
+        CommandTimeoutTracker tracker = new CommandTimeoutTracker();
+        Assert.assertEquals(30000, tracker.timeout("show poe", 30000, 1000, 3));
+        for (int i = 0; i < 4; i++) {
+            tracker.record("show poe", 500);
+        }
+        Assert.assertEquals(30000, tracker.timeout("show poe", 30000, 1000, 3));
+        tracker.record("show poe", 800);
+
+        Assert.assertEquals(2400, tracker.timeout("show poe", 30000, 1000, 3));
+        Assert.assertEquals(2000, tracker.timeout("show poe", 2000, 1000, 3));
+        Assert.assertEquals(5000, tracker.timeout("show poe", 30000, 5000, 3));
+        Assert.assertEquals(30000, tracker.timeout("show environment", 30000, 1000, 3));
+    }
+
+    @Test
+    public void timeoutGrowsAfterTimedOutCommand() {
+        CommandTimeoutTracker tracker = new CommandTimeoutTracker();
+        for (int i = 0; i < 100; i++) {
+            tracker.record("en", 100);
+        }
+        Assert.assertEquals(1000, tracker.timeout("en", 30000, 1000, 3));
+        tracker.record("en", 1000);
+        Assert.assertEquals(3000, tracker.timeout("en", 30000, 1000, 3));
+    }
+}
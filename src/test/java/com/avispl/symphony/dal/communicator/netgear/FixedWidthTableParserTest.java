@@ -0,0 +1,46 @@
+package com.avispl.symphony.dal.communicator.netgear;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class FixedWidthTableParserTest {
+
+    private static final String TABLE = "show table\r\n"
+            + "Intf      Mode     Description\r\n"
+            + "--------- -------- ------------\r\n"
+            + "1/0/1     Auto     Uplink port\r\n"
+            + "1/0/2              \r\n"
+            + "1/0/10000 Forced   Overflow\r\n"
+            + "(M4300-28G-PoE+) #";
+
+    @Test
+    public void parseRows() {
+        List<String> rows = new ArrayList<>();
+        NetGearResponseParser.parseLines(TABLE, new FixedWidthTableParser((text, lineStart, lineEnd, columns, columnsCount) -> {
+            StringBuilder row = new StringBuilder();
+            for (int i = 0; i < columnsCount; i++) {
+                row.append('[').append(text, columns[i * 2], columns[i * 2 + 1]).append(']');
+            }
+            rows.add(row.toString());
+        }));
+
+        Assert.assertEquals(4, rows.size());
+        Assert.assertEquals("[1/0/1][Auto][Uplink port]", rows.get(0));
+        Assert.assertEquals("[1/0/2][]", rows.get(1));
+        Assert.assertEquals("[1/0/10000][Forced][Overflow]", rows.get(2));
+        Assert.assertEquals("[(M4300-28G-PoE+) #]", rows.get(3));
+    }
+
+    @Test
+    public void parseMisalignedRow() {
+        List<String> rows = new ArrayList<>();
+        NetGearResponseParser.parseLines("Intf  Mode\r\n----- -----\r\n1/0/100  Auto\r\n", new FixedWidthTableParser(
+                (text, lineStart, lineEnd, columns, columnsCount) -> rows.add(text.substring(columns[0], columns[1]) + ":" + text.substring(columns[2], columns[3]))));
+
+        Assert.assertEquals(1, rows.size());
+        Assert.assertEquals("1/0/100:Auto", rows.get(0));
+    }
+}
@@ -0,0 +1,27 @@
+package com.avispl.symphony.dal.communicator.netgear;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class InterfaceRangeTest {
+
+    @Test
+    public void coalesce() {
+        List<InterfaceRange> ranges = InterfaceRange.coalesce(Arrays.asList("1/0/3", "1/0/1", "1/0/2", "1/0/5", "2/0/6", "lag 1"));
+
+        Assert.assertEquals(Arrays.asList("lag 1", "1/0/1-1/0/3", "1/0/5", "2/0/6"),
+                ranges.stream().map(InterfaceRange::getName).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void coalesceDuplicatePorts() {
+        List<InterfaceRange> ranges = InterfaceRange.coalesce(Arrays.asList("1/0/1", "1/0/1", "1/0/1", "lag 1", "lag 1"));
+
+        Assert.assertEquals(Arrays.asList("lag 1", "1/0/1"), ranges.stream().map(InterfaceRange::getName).collect(Collectors.toList()));
+        Assert.assertEquals(Arrays.asList("1/0/1"), ranges.get(1).getPorts());
+    }
+}
@@ -0,0 +1,613 @@
+package com.avispl.symphony.dal.communicator.netgear;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Runs the communicator against {@link RecordedTelnetServer}, replaying the recorded M4300 transcripts
+ */
+public class NetGearCommunicatorReplayTest {
+
+    private static final String HOSTNAME = "M4300-28G-PoE+";
+    private static final String LOGIN = "dev";
+    private static final String PASSWORD = "replay";
+
+    private RecordedTelnetServer server;
+    private NetGearNASCommunicator netGearCommunicator;
+
+    @BeforeEach
+    public void init() throws Exception {
+        server = new RecordedTelnetServer(TelnetTranscripts.load(TelnetTranscripts.M4300_28G_POE), HOSTNAME, LOGIN, PASSWORD);
+        netGearCommunicator = new NetGearNASCommunicator();
+        netGearCommunicator.setHost("127.0.0.1");
+        netGearCommunicator.setPort(server.getPort());
+        netGearCommunicator.setLogin(LOGIN);
+        netGearCommunicator.setPassword(PASSWORD);
+    }
+
+    @AfterEach
+    public void destroy() throws Exception {
+        netGearCommunicator.destroy();
+        server.close();
+    }
+
+    @Test
+    public void getMultipleStatistics() throws Exception {
+        netGearCommunicator.setPoePortStatistics(true);
+        netGearCommunicator.init();
+        ExtendedStatistics statistics = (ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0);
+        Map<String, String> statisticsMap = statistics.getStatistics();
+
+        Assert.assertEquals("Up", statisticsMap.get("IPv4 Interface Status"));
+        Assert.assertEquals("ON", statisticsMap.get("PSE Main Operational Status"));
+        Assert.assertEquals("true", statisticsMap.get("Port Controls#Port 1/0/1"));
+        Assert.assertEquals("false", statisticsMap.get("Port Controls#Port 1/0/3"));
+        Assert.assertEquals("8100480", statisticsMap.get("Ports Packets Statistics#Port 1/0/1 Received"));
+        Assert.assertEquals("45, Normal", statisticsMap.get("Temperature Sensors#Temp. Sensor 1, MAC"));
+        Assert.assertEquals("12.9", statisticsMap.get("PoE Port Statistics#Port 1/0/4 Output Power (W)"));
+        Assert.assertEquals("Critical", statisticsMap.get("PoE Port Statistics#Port 1/0/4 Priority"));
+        Assert.assertNull(statisticsMap.get("Performance#Command Time (ms)"));
+        Assert.assertEquals(29, statistics.getControllableProperties().size());
+        Assert.assertEquals(1, server.getConnections());
+    }
+
+    @Test
+    public void getMultipleStatisticsPoePortCommandRejected() throws Exception {
+        server.removeTranscript("show poe port all");
+        netGearCommunicator.setPoePortStatistics(true);
+        netGearCommunicator.init();
+        ExtendedStatistics statistics = (ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0);
+        Map<String, String> statisticsMap = statistics.getStatistics();
+
+        Assert.assertTrue(server.getReceivedCommands().contains("show poe port all"));
+        Assert.assertNull(statisticsMap.get("PoE Port Statistics#Port 1/0/4 Priority"));
+        Assert.assertEquals("ON", statisticsMap.get("PSE Main Operational Status"));
+        Assert.assertEquals("true", statisticsMap.get("Port Controls#Port 1/0/28"));
+        Assert.assertEquals("45, Normal", statisticsMap.get("Temperature Sensors#Temp. Sensor 1, MAC"));
+        Assert.assertEquals(29, statistics.getControllableProperties().size());
+    }
+
+    @Test
+    public void getMultipleStatisticsPaginated() throws Exception {
+        server.setPaginationControlSupported(false);
+        server.setPageSize(10);
+        netGearCommunicator.setPerformanceMetrics(true);
+        netGearCommunicator.init();
+        Map<String, String> statisticsMap = ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics();
+
+        Assert.assertEquals("true", statisticsMap.get("Port Controls#Port 1/0/28"));
+        Assert.assertEquals("4", statisticsMap.get("Performance#Pages Fetched (show port status all | exclude lag)"));
+    }
+
+    @Test
+    public void getMultipleStatisticsPaginationControlSessionDropped() throws Exception {
+        server.setPageSize(10);
+        server.dropSessionOnCommand("terminal length 0");
+        netGearCommunicator.setTelnetTransport("NIO");
+        netGearCommunicator.setPerformanceMetrics(true);
+        netGearCommunicator.init();
+        try {
+            netGearCommunicator.getMultipleStatistics();
+            Assert.fail("Statistics are collected over a dropped session");
+        } catch (Exception expected) {
+            // the session is dropped by the switch
+        }
+        Map<String, String> statisticsMap = ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics();
+
+        Assert.assertEquals("1", statisticsMap.get("Performance#Pages Fetched (show port status all | exclude lag)"));
+        Assert.assertEquals(2, server.getReceivedCommands().stream().filter("terminal length 0"::equals).count());
+    }
+
+    @Test
+    public void getMultipleStatisticsStreamingParse() throws Exception {
+        server.setPaginationControlSupported(false);
+        server.setPageSize(7);
+        netGearCommunicator.setStreamingParse(true);
+        netGearCommunicator.init();
+        ExtendedStatistics statistics = (ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0);
+        Map<String, String> statisticsMap = statistics.getStatistics();
+
+        Assert.assertEquals("Up", statisticsMap.get("IPv4 Interface Status"));
+        Assert.assertEquals("true", statisticsMap.get("Port Controls#Port 1/0/28"));
+        Assert.assertEquals("false", statisticsMap.get("Port Controls#Port 1/0/3"));
+        Assert.assertEquals("8100480", statisticsMap.get("Ports Packets Statistics#Port 1/0/1 Received"));
+        Assert.assertEquals("45, Normal", statisticsMap.get("Temperature Sensors#Temp. Sensor 1, MAC"));
+        Assert.assertEquals(29, statistics.getControllableProperties().size());
+    }
+
+    @Test
+    public void getMultipleStatisticsParallelSessions() throws Exception {
+        server.setDefaultLatency(50);
+        netGearCommunicator.setParallelSessions(3);
+        netGearCommunicator.init();
+        ExtendedStatistics statistics = (ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0);
+        Map<String, String> statisticsMap = statistics.getStatistics();
+
+        Assert.assertEquals("Up", statisticsMap.get("IPv4 Interface Status"));
+        Assert.assertEquals("ON", statisticsMap.get("PSE Main Operational Status"));
+        Assert.assertEquals("true", statisticsMap.get("Port Controls#Port 1/0/28"));
+        Assert.assertEquals("8100480", statisticsMap.get("Ports Packets Statistics#Port 1/0/1 Received"));
+        Assert.assertEquals("45, Normal", statisticsMap.get("Temperature Sensors#Temp. Sensor 1, MAC"));
+        Assert.assertNotNull(statisticsMap.get("TotalPacketsStatistics#Total Packets Received Without Errors"));
+        Assert.assertEquals(29, statistics.getControllableProperties().size());
+        Assert.assertEquals(3, server.getMaxActiveSessions());
+    }
+
+    @Test
+    public void getMultipleStatisticsParallelSessionsLimit() throws Exception {
+        server.setDefaultLatency(50);
+        netGearCommunicator.setParallelSessions(4);
+        netGearCommunicator.setMaxTelnetSessions(2);
+        netGearCommunicator.init();
+        Map<String, String> statisticsMap = ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics();
+
+        Assert.assertEquals("true", statisticsMap.get("Port Controls#Port 1/0/28"));
+        Assert.assertEquals(2, server.getMaxActiveSessions());
+    }
+
+    @Test
+    public void getMultipleStatisticsPerformanceMetrics() throws Exception {
+        netGearCommunicator.setPerformanceMetrics(true);
+        netGearCommunicator.init();
+        ObjectName objectName = netGearCommunicator.getMetricsObjectName();
+        Assert.assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+
+        Map<String, String> statisticsMap = ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics();
+        Assert.assertEquals("1", statisticsMap.get("Performance#Connections"));
+        Assert.assertEquals("1", statisticsMap.get("Performance#Fetch (show port status all | exclude lag) Calls"));
+        Assert.assertEquals("1", statisticsMap.get("Performance#Parse (show port status all | exclude lag) Calls"));
+        Assert.assertNotNull(statisticsMap.get("Performance#Command (show poe) Avg Response Bytes"));
+        Assert.assertTrue(statisticsMap.keySet().stream().noneMatch(name -> name.contains(PASSWORD)));
+
+        netGearCommunicator.destroy();
+        Assert.assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(objectName));
+    }
+
+    @Test
+    public void getMultipleStatisticsKeepAlive() throws Exception {
+        netGearCommunicator.setKeepAliveSession(true);
+        netGearCommunicator.init();
+        netGearCommunicator.getMultipleStatistics();
+        Map<String, String> statisticsMap = ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics();
+
+        Assert.assertEquals("true", statisticsMap.get("Port Controls#Port 1/0/1"));
+        Assert.assertEquals(1, server.getConnections());
+        Assert.assertEquals(1, server.getReceivedCommands().stream().filter("terminal length 0"::equals).count());
+        Assert.assertNotNull(statisticsMap.get("Performance#Connect Time (ms)"));
+        Assert.assertNotNull(statisticsMap.get("Performance#Command Time (ms)"));
+        Assert.assertNull(statisticsMap.get("Performance#Pages Fetched (show port status all | exclude lag)"));
+    }
+
+    @Test
+    public void getMultipleStatisticsBatch() throws Exception {
+        netGearCommunicator.setBatchCommands(true);
+        server.setDefaultLatency(5);
+        netGearCommunicator.init();
+        Map<String, String> statisticsMap = ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics();
+
+        Assert.assertEquals("Up", statisticsMap.get("IPv4 Interface Status"));
+        Assert.assertEquals("false", statisticsMap.get("Port Controls#Port 1/0/3"));
+        Assert.assertEquals("8100480", statisticsMap.get("Ports Packets Statistics#Port 1/0/1 Received"));
+    }
+
+    @Test
+    public void getMultipleStatisticsNioTransport() throws Exception {
+        server.setOptionNegotiation(true);
+        server.setPaginationControlSupported(false);
+        server.setPageSize(10);
+        netGearCommunicator.setTelnetTransport("NIO");
+        netGearCommunicator.setPerformanceMetrics(true);
+        netGearCommunicator.init();
+        ExtendedStatistics statistics = (ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0);
+        Map<String, String> statisticsMap = statistics.getStatistics();
+
+        Assert.assertEquals("Up", statisticsMap.get("IPv4 Interface Status"));
+        Assert.assertEquals("ON", statisticsMap.get("PSE Main Operational Status"));
+        Assert.assertEquals("true", statisticsMap.get("Port Controls#Port 1/0/28"));
+        Assert.assertEquals("8100480", statisticsMap.get("Ports Packets Statistics#Port 1/0/1 Received"));
+        Assert.assertEquals("45, Normal", statisticsMap.get("Temperature Sensors#Temp. Sensor 1, MAC"));
+        Assert.assertEquals("4", statisticsMap.get("Performance#Pages Fetched (show port status all | exclude lag)"));
+        Assert.assertEquals(29, statistics.getControllableProperties().size());
+
+        ControllableProperty controllableProperty = new ControllableProperty();
+        controllableProperty.setProperty("Port Controls#Port 1/0/1");
+        controllableProperty.setValue("0");
+        netGearCommunicator.controlProperty(controllableProperty);
+        Assert.assertTrue(server.getReceivedCommands().contains("shutdown"));
+    }
+
+    @Test
+    public void getMultipleStatisticsNioTransportFailedLogin() throws Exception {
+        netGearCommunicator.setTelnetTransport("NIO");
+        netGearCommunicator.setPassword("wrong");
+        netGearCommunicator.init();
+        try {
+            netGearCommunicator.getMultipleStatistics();
+            Assert.fail("Statistics are not expected to be collected with a wrong password");
+        } catch (Exception e) {
+            Assert.assertEquals(1, server.getConnections());
+        }
+    }
+
+    @Test
+    public void getMultipleStatisticsChangedKeys() throws Exception {
+        netGearCommunicator.setKeepAliveSession(true);
+        netGearCommunicator.setCounterRates(true);
+        netGearCommunicator.init();
+        ExtendedStatistics firstStatistics = (ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0);
+        Assert.assertTrue(netGearCommunicator.getChangedStatisticsKeys().contains("Port Controls#Port 1/0/1"));
+
+        ExtendedStatistics statistics = (ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0);
+        Set<String> changedKeys = netGearCommunicator.getChangedStatisticsKeys();
+        Assert.assertFalse(changedKeys.contains("Port Controls#Port 1/0/1"));
+        Assert.assertFalse(changedKeys.contains("Ports Packets Statistics#Port 1/0/1 Received"));
+        Assert.assertTrue(changedKeys.contains("Ports Packets Statistics#Port 1/0/1 Received Rate (pps)"));
+        Assert.assertEquals(firstStatistics.getControllableProperties().size(), statistics.getControllableProperties().size());
+        for (int i = 0; i < statistics.getControllableProperties().size(); i++) {
+            Assert.assertSame(firstStatistics.getControllableProperties().get(i), statistics.getControllableProperties().get(i));
+        }
+        statistics.getStatistics().remove("Port Controls#Port 1/0/1");
+        statistics.getControllableProperties().clear();
+        Assert.assertEquals(29, ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getControllableProperties().size());
+
+        ControllableProperty controllableProperty = new ControllableProperty();
+        controllableProperty.setProperty("Port Controls#Port 1/0/1");
+        controllableProperty.setValue("0");
+        netGearCommunicator.controlProperty(controllableProperty);
+
+        Assert.assertEquals(Collections.singleton("Port Controls#Port 1/0/1"), netGearCommunicator.getChangedStatisticsKeys());
+    }
+
+    @Test
+    public void getMultipleStatisticsChangedKeysMultiplePorts() throws Exception {
+        netGearCommunicator.init();
+        netGearCommunicator.getMultipleStatistics();
+
+        List<ControllableProperty> controls = new ArrayList<>();
+        for (String port : new String[]{"1/0/2", "1/0/5"}) {
+            ControllableProperty controllableProperty = new ControllableProperty();
+            controllableProperty.setProperty("Port Controls#Port " + port);
+            controllableProperty.setValue("0");
+            controls.add(controllableProperty);
+        }
+        netGearCommunicator.controlProperties(controls);
+        ControllableProperty controllableProperty = new ControllableProperty();
+        controllableProperty.setProperty("Port Controls#Port 1/0/7");
+        controllableProperty.setValue("0");
+        netGearCommunicator.controlProperty(controllableProperty);
+
+        Set<String> changedKeys = netGearCommunicator.getChangedStatisticsKeys();
+        Assert.assertEquals(3, changedKeys.size());
+        Assert.assertTrue(changedKeys.contains("Port Controls#Port 1/0/2"));
+        Assert.assertTrue(changedKeys.contains("Port Controls#Port 1/0/5"));
+        Assert.assertTrue(changedKeys.contains("Port Controls#Port 1/0/7"));
+    }
+
+    @Test
+    public void getMultipleStatisticsAdaptiveTimeouts() throws Exception {
+        netGearCommunicator.setAdaptiveTimeouts(true);
+        netGearCommunicator.setMinAdaptiveTimeout(300);
+        netGearCommunicator.setTimeout(30000);
+        netGearCommunicator.init();
+        for (int i = 0; i < 5; i++) {
+            netGearCommunicator.getMultipleStatistics();
+        }
+
+        server.setCommandLatency("show poe", 2000);
+        long startTime = System.currentTimeMillis();
+        try {
+            netGearCommunicator.getMultipleStatistics();
+            Assert.fail("Statistics poll is expected to time out");
+        } catch (Exception e) {
+            Assert.assertTrue(System.currentTimeMillis() - startTime < 2000);
+        }
+    }
+
+    @Test
+    public void getMultipleStatisticsCircuitBreaker() throws Exception {
+        netGearCommunicator.setCircuitBreakerThreshold(2);
+        netGearCommunicator.setCircuitBreakerOpenPeriod(3600000);
+        netGearCommunicator.setTimeout(500);
+        netGearCommunicator.init();
+        Map<String, String> statisticsMap = ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics();
+        Assert.assertNull(statisticsMap.get("AdapterMetadata#Stale Statistics"));
+
+        server.setCommandLatency("show poe", 1000);
+        try {
+            netGearCommunicator.getMultipleStatistics();
+            Assert.fail("Statistics poll is expected to time out");
+        } catch (Exception e) {
+            Assert.assertTrue(String.valueOf(e), e.getMessage().contains("timed out"));
+        }
+        statisticsMap = ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics();
+        Assert.assertEquals("true", statisticsMap.get("AdapterMetadata#Stale Statistics"));
+        Assert.assertEquals("Up", statisticsMap.get("IPv4 Interface Status"));
+
+        int connections = server.getConnections();
+        statisticsMap = ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics();
+        Assert.assertEquals("true", statisticsMap.get("AdapterMetadata#Stale Statistics"));
+        Assert.assertEquals(connections, server.getConnections());
+
+        server.setCommandLatency("show poe", 0);
+        netGearCommunicator.setCircuitBreakerOpenPeriod(0);
+        statisticsMap = ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics();
+        Assert.assertNull(statisticsMap.get("AdapterMetadata#Stale Statistics"));
+        Assert.assertTrue(server.getConnections() > connections);
+    }
+
+    @Test
+    public void getMultipleStatisticsDuringReload() throws Exception {
+        server.setReloadDuration(1500);
+        netGearCommunicator.setReloadProbeInterval(100);
+        netGearCommunicator.setReloadProbeMaxInterval(400);
+        netGearCommunicator.init();
+        netGearCommunicator.getMultipleStatistics();
+
+        ControllableProperty controllableProperty = new ControllableProperty();
+        controllableProperty.setProperty("Reload");
+        controllableProperty.setValue("1");
+        netGearCommunicator.controlProperty(controllableProperty);
+        Assert.assertTrue(server.getReceivedCommands().contains("y"));
+
+        int connections = server.getConnections();
+        long startTime = System.currentTimeMillis();
+        Map<String, String> statisticsMap = ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics();
+        Assert.assertTrue(System.currentTimeMillis() - startTime < 1000);
+        Assert.assertTrue(statisticsMap.get("AdapterMetadata#Reload Status").startsWith("Reloading"));
+        Assert.assertEquals(connections, server.getConnections());
+
+        while (statisticsMap.containsKey("AdapterMetadata#Reload Status") && System.currentTimeMillis() - startTime < 10000) {
+            Thread.sleep(200);
+            statisticsMap = ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics();
+        }
+        Assert.assertTrue(Integer.parseInt(statisticsMap.get("AdapterMetadata#Last Reload Duration (s)")) >= 1);
+        Assert.assertTrue(server.getConnections() > connections);
+    }
+
+    @Test
+    public void getMultipleStatisticsFleetScheduling() throws Exception {
+        netGearCommunicator.setFleetScheduling(true);
+        netGearCommunicator.setFleetPollingInterval(300);
+        netGearCommunicator.init();
+        Map<String, String> statisticsMap = ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics();
+        Assert.assertEquals("ON", statisticsMap.get("PSE Main Operational Status"));
+        Assert.assertEquals("1", statisticsMap.get("Performance#Fleet Registered Devices"));
+        Assert.assertTrue(Long.parseLong(statisticsMap.get("Performance#Fleet Collection Offset (ms)")) < 300);
+
+        long startTime = System.currentTimeMillis();
+        while (server.getReceivedCommands().stream().filter("show poe"::equals).count() < 3 && System.currentTimeMillis() - startTime < 10000) {
+            Thread.sleep(50);
+        }
+        Assert.assertTrue(server.getReceivedCommands().stream().filter("show poe"::equals).count() >= 3);
+
+        statisticsMap = ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics();
+        Assert.assertEquals("true", statisticsMap.get("Port Controls#Port 1/0/1"));
+        Assert.assertNotNull(statisticsMap.get("Performance#Fleet Average Lag (ms)"));
+    }
+
+    @Test
+    public void getMultipleStatisticsConfigChangeDetection() throws Exception {
+        netGearCommunicator.setConfigChangeDetection(true);
+        netGearCommunicator.setControlQuietPeriod(200);
+        netGearCommunicator.init();
+        ExtendedStatistics statistics = (ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0);
+        Assert.assertEquals(29, statistics.getControllableProperties().size());
+        Assert.assertEquals("false", statistics.getStatistics().get("Port Controls#Port 1/0/3"));
+
+        String portStatus = TelnetTranscripts.load(TelnetTranscripts.M4300_28G_POE).get("show port status all | exclude lag");
+        server.setTranscript("show port status all | exclude lag", portStatus.replaceFirst("(?m)^(1/0/3 .*)Down ", "$1Up   "));
+        ExtendedStatistics updatedStatistics = (ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0);
+        Assert.assertEquals("true", updatedStatistics.getStatistics().get("Port Controls#Port 1/0/3"));
+        Assert.assertEquals(29, updatedStatistics.getControllableProperties().size());
+        for (int i = 0; i < statistics.getControllableProperties().size(); i++) {
+            String name = statistics.getControllableProperties().get(i).getName();
+            Assert.assertEquals(name, updatedStatistics.getControllableProperties().get(i).getName());
+            if (!name.equals("Port Controls#Port 1/0/3")) {
+                Assert.assertSame(statistics.getControllableProperties().get(i), updatedStatistics.getControllableProperties().get(i));
+            }
+        }
+        Assert.assertEquals(1, server.getReceivedCommands().stream().filter("show running-config"::equals).count());
+
+        ControllableProperty controllableProperty = new ControllableProperty();
+        controllableProperty.setProperty("Port Controls#Port 1/0/3");
+        controllableProperty.setValue("0");
+        netGearCommunicator.controlProperties(Collections.singletonList(controllableProperty));
+        Thread.sleep(500);
+        netGearCommunicator.getMultipleStatistics();
+        Assert.assertEquals(2, server.getReceivedCommands().stream().filter("show running-config"::equals).count());
+    }
+
+    @Test
+    public void getMultipleStatisticsReloadTimedOut() throws Exception {
+        server.setReloadDuration(60000);
+        netGearCommunicator.setReloadProbeInterval(100);
+        netGearCommunicator.setReloadProbeMaxInterval(200);
+        netGearCommunicator.setMaxReloadDuration(5000);
+        netGearCommunicator.setCircuitBreakerThreshold(0);
+        netGearCommunicator.init();
+        netGearCommunicator.getMultipleStatistics();
+
+        ControllableProperty controllableProperty = new ControllableProperty();
+        controllableProperty.setProperty("Reload");
+        controllableProperty.setValue("1");
+        netGearCommunicator.controlProperty(controllableProperty);
+        long startTime = System.currentTimeMillis();
+        Map<String, String> statisticsMap = ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics();
+        Assert.assertTrue(statisticsMap.containsKey("AdapterMetadata#Reload Status"));
+
+        Exception failure = null;
+        while (failure == null && System.currentTimeMillis() - startTime < 10000) {
+            try {
+                statisticsMap = ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics();
+                Assert.assertTrue(statisticsMap.containsKey("AdapterMetadata#Reload Status"));
+                Thread.sleep(200);
+            } catch (Exception e) {
+                failure = e;
+            }
+        }
+        Assert.assertNotNull("Statistics poll is expected to fail once the max reload duration has passed", failure);
+    }
+
+    @Test
+    public void controlPropertyShutdownPort() throws Exception {
+        netGearCommunicator.init();
+        netGearCommunicator.getMultipleStatistics();
+
+        ControllableProperty controllableProperty = new ControllableProperty();
+        controllableProperty.setProperty("Port Controls#Port 1/0/1");
+        controllableProperty.setValue("0");
+        netGearCommunicator.controlProperty(controllableProperty);
+
+        List<String> commands = server.getReceivedCommands();
+        Assert.assertTrue(commands.contains("interface 1/0/1"));
+        Assert.assertTrue(commands.contains("shutdown"));
+        Assert.assertEquals("false", ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics().get("Port Controls#Port 1/0/1"));
+    }
+
+    @Test
+    public void controlPropertiesInterfaceRange() throws Exception {
+        netGearCommunicator.init();
+        netGearCommunicator.getMultipleStatistics();
+
+        netGearCommunicator.controlProperties(portControls());
+
+        List<String> commands = server.getReceivedCommands();
+        Assert.assertTrue(commands.contains("interface 1/0/1-1/0/12"));
+        Assert.assertTrue(commands.contains("interface 1/0/20"));
+        Assert.assertEquals(1, commands.stream().filter("config"::equals).count());
+        Assert.assertEquals(1, commands.stream().filter("shutdown"::equals).count());
+        Map<String, String> statisticsMap = ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics();
+        Assert.assertEquals("false", statisticsMap.get("Port Controls#Port 1/0/12"));
+        Assert.assertEquals("true", statisticsMap.get("Port Controls#Port 1/0/20"));
+    }
+
+    @Test
+    public void controlPropertiesConflictingRequests() throws Exception {
+        netGearCommunicator.init();
+        netGearCommunicator.getMultipleStatistics();
+
+        List<ControllableProperty> controls = new ArrayList<>();
+        for (String value : new String[]{"1", "0", "1"}) {
+            ControllableProperty controllableProperty = new ControllableProperty();
+            controllableProperty.setProperty("Port Controls#Port 1/0/3");
+            controllableProperty.setValue(value);
+            controls.add(controllableProperty);
+        }
+        netGearCommunicator.controlProperties(controls);
+
+        List<String> commands = server.getReceivedCommands();
+        Assert.assertEquals(1, commands.stream().filter("no shutdown"::equals).count());
+        Assert.assertFalse(commands.contains("shutdown"));
+        Map<String, String> statisticsMap = ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics();
+        Assert.assertEquals("true", statisticsMap.get("Port Controls#Port 1/0/3"));
+    }
+
+    @Test
+    public void controlPropertiesInterfaceRangeFallback() throws Exception {
+        server.setInterfaceRangeSupported(false);
+        netGearCommunicator.init();
+        netGearCommunicator.getMultipleStatistics();
+
+        netGearCommunicator.controlProperties(portControls());
+
+        List<String> commands = server.getReceivedCommands();
+        Assert.assertTrue(commands.contains("interface 1/0/1-1/0/12"));
+        Assert.assertTrue(commands.contains("interface 1/0/12"));
+        Assert.assertEquals(12, commands.stream().filter("shutdown"::equals).count());
+        Assert.assertEquals("false", ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics().get("Port Controls#Port 1/0/12"));
+    }
+
+    @Test
+    public void controlPropertiesFailedPort() throws Exception {
+        netGearCommunicator.init();
+        netGearCommunicator.getMultipleStatistics();
+
+        ControllableProperty controllableProperty = new ControllableProperty();
+        controllableProperty.setProperty("Port Controls#Port 9/0/1");
+        controllableProperty.setValue("0");
+        try {
+            netGearCommunicator.controlProperties(Collections.singletonList(controllableProperty));
+            Assert.fail("Port control failure is expected");
+        } catch (CommandFailureException e) {
+            Assert.assertTrue(e.getMessage().contains("9/0/1"));
+        }
+    }
+
+    @Test
+    public void getMultipleStatisticsDuringControl() throws Exception {
+        server.setCommandLatency("shutdown", 2000);
+        netGearCommunicator.init();
+        netGearCommunicator.getMultipleStatistics();
+
+        ControllableProperty controllableProperty = new ControllableProperty();
+        controllableProperty.setProperty("Port Controls#Port 1/0/1");
+        controllableProperty.setValue("0");
+        CompletableFuture<Void> control = CompletableFuture.runAsync(() -> {
+            try {
+                netGearCommunicator.controlProperty(controllableProperty);
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+        while (!server.getReceivedCommands().contains("shutdown")) {
+            Thread.sleep(10);
+        }
+
+        long startTime = System.currentTimeMillis();
+        Map<String, String> statisticsMap = ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics();
+        Assert.assertTrue(System.currentTimeMillis() - startTime < 1000);
+        Assert.assertFalse(control.isDone());
+        Assert.assertEquals("true", statisticsMap.get("Port Controls#Port 1/0/1"));
+        statisticsMap.put("Port Controls#Port 1/0/1", "false");
+        Assert.assertEquals("true", ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics().get("Port Controls#Port 1/0/1"));
+
+        control.get();
+        Assert.assertEquals("false", ((ExtendedStatistics) netGearCommunicator.getMultipleStatistics().get(0)).getStatistics().get("Port Controls#Port 1/0/1"));
+    }
+
+    @Test
+    public void getMultipleStatisticsAfterControlQuietPeriod() throws Exception {
+        netGearCommunicator.setControlQuietPeriod(200);
+        netGearCommunicator.init();
+        netGearCommunicator.getMultipleStatistics();
+
+        ControllableProperty controllableProperty = new ControllableProperty();
+        controllableProperty.setProperty("Port Controls#Port 1/0/1");
+        controllableProperty.setValue("0");
+        netGearCommunicator.controlProperty(controllableProperty);
+        Thread.sleep(500);
+        netGearCommunicator.getMultipleStatistics();
+
+        Assert.assertEquals(2, server.getReceivedCommands().stream().filter("show port status all | exclude lag"::equals).count());
+    }
+
+    private List<ControllableProperty> portControls() {
+        List<ControllableProperty> controllableProperties = new ArrayList<>();
+        for (int port = 12; port > 0; port--) {
+            ControllableProperty controllableProperty = new ControllableProperty();
+            controllableProperty.setProperty("Port Controls#Port 1/0/" + port);
+            controllableProperty.setValue("0");
+            controllableProperties.add(controllableProperty);
+        }
+        ControllableProperty controllableProperty = new ControllableProperty();
+        controllableProperty.setProperty("Port Controls#Port 1/0/20");
+        controllableProperty.setValue("1");
+        controllableProperties.add(controllableProperty);
+        return controllableProperties;
+    }
+}
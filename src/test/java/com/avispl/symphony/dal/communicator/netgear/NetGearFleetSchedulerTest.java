@@ -0,0 +1,105 @@
+package com.avispl.symphony.dal.communicator.netgear;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class NetGearFleetSchedulerTest {
+
+    @Test
+    public void registerSpreadsOffsets() {
+        NetGearFleetScheduler scheduler = new NetGearFleetScheduler(1);
+        List<NetGearFleetScheduler.Registration> registrations = new ArrayList<>();
+        List<Long> offsets = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            NetGearFleetScheduler.Registration registration = scheduler.register(() -> { }, 1, 3200000);
+            registrations.add(registration);
+            offsets.add(registration.getOffset());
+        }
+        Assert.assertEquals(8, scheduler.getRegisteredDevices());
+
+        Collections.sort(offsets);
+        for (int i = 1; i < offsets.size(); i++) {
+            Assert.assertTrue(offsets.get(i) - offsets.get(i - 1) > 100000);
+        }
+        Assert.assertTrue(offsets.get(0) + 3200000 - offsets.get(offsets.size() - 1) > 100000);
+
+        registrations.forEach(NetGearFleetScheduler.Registration::cancel);
+        Assert.assertEquals(0, scheduler.getRegisteredDevices());
+    }
+
+    @Test
+    public void collectionsAreCappedBySessions() throws Exception {
+        NetGearFleetScheduler scheduler = new NetGearFleetScheduler(2);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        AtomicInteger collections = new AtomicInteger();
+        List<NetGearFleetScheduler.Registration> registrations = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            registrations.add(scheduler.register(() -> {
+                maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                active.decrementAndGet();
+                collections.incrementAndGet();
+            }, 1, 200));
+        }
+        long startTime = System.currentTimeMillis();
+        while (collections.get() < 12 && System.currentTimeMillis() - startTime < 10000) {
+            Thread.sleep(50);
+        }
+        registrations.forEach(NetGearFleetScheduler.Registration::cancel);
+
+        Assert.assertTrue(collections.get() >= 12);
+        Assert.assertTrue(maxActive.get() <= 2);
+        Assert.assertTrue(scheduler.getMaxLag() >= scheduler.getAverageLag());
+    }
+
+    @Test
+    public void callWaitsInQueue() throws Exception {
+        NetGearFleetScheduler scheduler = new NetGearFleetScheduler(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> call(scheduler, () -> {
+            started.countDown();
+            release.await();
+            return true;
+        }));
+        started.await();
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> call(scheduler, () -> true));
+
+        long startTime = System.currentTimeMillis();
+        while (scheduler.getQueueDepth() == 0 && System.currentTimeMillis() - startTime < 5000) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(1, scheduler.getQueueDepth());
+        Assert.assertEquals(1, scheduler.getActiveSessions());
+        Assert.assertFalse(second.isDone());
+
+        release.countDown();
+        Assert.assertTrue(first.get());
+        Assert.assertTrue(second.get());
+        Assert.assertEquals(0, scheduler.getQueueDepth());
+        Assert.assertEquals(1, scheduler.getMaxQueueDepth());
+        Assert.assertEquals(0, scheduler.getActiveSessions());
+        scheduler.shutdown();
+    }
+
+    private static boolean call(NetGearFleetScheduler scheduler, Callable<Boolean> collection) {
+        try {
+            return scheduler.call(1, collection);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
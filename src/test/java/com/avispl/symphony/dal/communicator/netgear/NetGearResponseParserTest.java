@@ -0,0 +1,92 @@
+package com.avispl.symphony.dal.communicator.netgear;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class NetGearResponseParserTest {
+
+    static Map<String, String> transcripts;
+
+    @BeforeAll
+    public static void init() {
+        transcripts = TelnetTranscripts.load(TelnetTranscripts.M4300_28G_POE);
+    }
+
+    @Test
+    public void parseDotLeaderProperties() {
+        Map<String, String> properties = new LinkedHashMap<>();
+        NetGearResponseParser.parseDotLeaderProperties(response("show ip management"), properties);
+
+        Assert.assertEquals("Up", properties.get("IPv4 Interface Status"));
+        Assert.assertEquals("10.10.0.20", properties.get("IP Address"));
+        Assert.assertEquals("fe80::a221:b7ff:fe00:1/64", properties.get("IPv6 Prefix is"));
+        Assert.assertEquals(14, properties.size());
+    }
+
+    @Test
+    public void parsePortStatus() {
+        Map<String, String> ports = new HashMap<>();
+        NetGearResponseParser.parsePortStatus(response("show port status all | exclude lag"), ports);
+
+        Assert.assertEquals(28, ports.size());
+        Assert.assertEquals("true", ports.get("1/0/1"));
+        Assert.assertEquals("false", ports.get("1/0/3"));
+        Assert.assertEquals("true", ports.get("1/0/28"));
+    }
+
+    @Test
+    public void parsePortStatistics() {
+        Map<String, String> ports = new HashMap<>();
+        NetGearResponseParser.parsePortStatistics(response("show interface ethernet all | exclude lag"), ports);
+
+        Assert.assertEquals(56, ports.size());
+        Assert.assertEquals("8100480", ports.get("Ports Packets Statistics#Port 1/0/1 Received"));
+        Assert.assertEquals("8393707", ports.get("Ports Packets Statistics#Port 1/0/1 Transmitted"));
+        Assert.assertEquals("0", ports.get("Ports Packets Statistics#Port 1/0/3 Received"));
+    }
+
+    @Test
+    public void parsePoePortStatus() {
+        Map<String, String> ports = new HashMap<>();
+        NetGearResponseParser.parsePoePortStatus(response("show poe port all"), ports);
+
+        Assert.assertEquals("High", ports.get("PoE Port Statistics#Port 1/0/1 Priority"));
+        Assert.assertEquals("Class4", ports.get("PoE Port Statistics#Port 1/0/1 Class"));
+        Assert.assertEquals("4.6", ports.get("PoE Port Statistics#Port 1/0/1 Output Power (W)"));
+        Assert.assertEquals("Delivering Power", ports.get("PoE Port Statistics#Port 1/0/1 Status"));
+        Assert.assertEquals("Disabled", ports.get("PoE Port Statistics#Port 1/0/3 Status"));
+        Assert.assertNull(ports.get("PoE Port Statistics#Port 1/0/3 Class"));
+        Assert.assertEquals(24 * 3 + 6, ports.size());
+    }
+
+    @Test
+    public void parseStackPortStatus() {
+        Map<String, String> stackTranscripts = TelnetTranscripts.stack(transcripts, 8);
+        Map<String, String> ports = new HashMap<>();
+        NetGearResponseParser.parsePortStatus(stackTranscripts.get("show port status all | exclude lag"), ports);
+
+        Assert.assertEquals(224, ports.size());
+        Assert.assertEquals("false", ports.get("8/0/3"));
+        Assert.assertEquals("true", ports.get("8/0/28"));
+    }
+
+    @Test
+    public void parseEnvironmentStatus() {
+        Map<String, String> environment = new HashMap<>();
+        NetGearResponseParser.parseEnvironmentStatus(response("show environment"), environment);
+
+        Assert.assertEquals(7, environment.size());
+        Assert.assertEquals("45, Normal", environment.get("Temperature Sensors#Temp. Sensor 1, MAC"));
+        Assert.assertEquals("Operational, 4500rps / 30%", environment.get("Fans#Fan 1, FAN-1"));
+        Assert.assertEquals("Removable, Not Present", environment.get("Power Modules#Power supply 2, PS-2"));
+    }
+
+    private static String response(String command) {
+        return TelnetTranscripts.response(command, transcripts.get(command));
+    }
+}
@@ -0,0 +1,184 @@
+package com.avispl.symphony.dal.communicator.netgear;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.snmp4j.CommandResponder;
+import org.snmp4j.CommandResponderEvent;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.mp.StatusInformation;
+import org.snmp4j.smi.Counter32;
+import org.snmp4j.smi.Counter64;
+import org.snmp4j.smi.Gauge32;
+import org.snmp4j.smi.Integer32;
+import org.snmp4j.smi.Null;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.UdpAddress;
+import org.snmp4j.smi.Variable;
+import org.snmp4j.smi.VariableBinding;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static com.avispl.symphony.dal.communicator.netgear.NetGearSnmpStatisticsCollector.*;
+
+public class NetGearSnmpStatisticsCollectorTest {
+
+    private Snmp agent;
+    private DefaultUdpTransportMapping agentTransport;
+    private NetGearSnmpStatisticsCollector collector;
+    private final NavigableMap<OID, Variable> mib = new TreeMap<>();
+
+    @BeforeEach
+    public void init() throws Exception {
+        addInterface(1, "1/0/1", 1, 1000, 10, 5, 2000, 20, 10, 1, 2);
+        addInterface(2, "1/0/2", 2, 0, 0, 0, 0, 0, 0, 0, 0);
+        addInterface(100, "lag 1", 2, 0, 0, 0, 0, 0, 0, 0, 0);
+
+        addSensor(11, "MAC", 1, 8, 0, 45, 1);
+        addSensor(12, "PHY", 2, 8, 0, 41, 1);
+        addSensor(13, "FAN-1", 1, 10, 0, 4500, 1);
+        addSensor(14, "PS-1", 1, 4, 1, 121, 3);
+        addSensor(15, "PS-2", 2, 4, 1, 0, 2);
+        mib.put(new OID(ENT_PHYSICAL_IS_FRU).append(14), new Integer32(2));
+        mib.put(new OID(ENT_PHYSICAL_IS_FRU).append(15), new Integer32(1));
+
+        mib.put(new OID(PETH_MAIN_PSE_POWER).append(1), new Gauge32(720));
+        mib.put(new OID(PETH_MAIN_PSE_OPER_STATUS).append(1), new Integer32(1));
+        mib.put(new OID(PETH_MAIN_PSE_CONSUMPTION_POWER).append(1), new Gauge32(35));
+        mib.put(new OID(PETH_MAIN_PSE_USAGE_THRESHOLD).append(1), new Integer32(90));
+        mib.put(new OID(PETH_NOTIFICATION_CONTROL_ENABLE).append(1), new Integer32(1));
+
+        agentTransport = new DefaultUdpTransportMapping(new UdpAddress("127.0.0.1/0"));
+        agent = new Snmp(agentTransport);
+        agent.addCommandResponder(new MibResponder());
+        agentTransport.listen();
+
+        collector = new NetGearSnmpStatisticsCollector("udp:127.0.0.1/" + agentTransport.getListenAddress().getPort(), "public", "2c", 1000, 1);
+    }
+
+    @AfterEach
+    public void destroy() throws Exception {
+        collector.close();
+        agent.close();
+    }
+
+    @Test
+    public void collectInterfaces() throws Exception {
+        Map<String, String> ports = new HashMap<>();
+        Map<String, String> portsStatistics = new HashMap<>();
+        Map<String, String> packetsData = new HashMap<>();
+        collector.collectInterfaces(ports, portsStatistics, packetsData);
+
+        Assert.assertEquals(2, ports.size());
+        Assert.assertEquals("true", ports.get("1/0/1"));
+        Assert.assertEquals("false", ports.get("1/0/2"));
+        Assert.assertEquals("1015", portsStatistics.get("Ports Packets Statistics#Port 1/0/1 Received"));
+        Assert.assertEquals("2030", portsStatistics.get("Ports Packets Statistics#Port 1/0/1 Transmitted"));
+        Assert.assertEquals("1015", packetsData.get("TotalPacketsStatistics#Total Packets Received Without Errors"));
+        Assert.assertEquals("2", packetsData.get("TotalPacketsStatistics#Total Packets Transmitted With Errors"));
+    }
+
+    @Test
+    public void collectEnvironmentStatus() throws Exception {
+        Map<String, String> environmentStatus = collector.collectEnvironmentStatus();
+
+        Assert.assertEquals(5, environmentStatus.size());
+        Assert.assertEquals("45, Normal", environmentStatus.get("Temperature Sensors#Temp. Sensor 1, MAC"));
+        Assert.assertEquals("41, Normal", environmentStatus.get("Temperature Sensors#Temp. Sensor 2, PHY"));
+        Assert.assertEquals("Operational, 4500rps / N/A", environmentStatus.get("Fans#Fan 1, FAN-1"));
+        Assert.assertEquals("Fixed, Failed", environmentStatus.get("Power Modules#Power supply 1, PS-1"));
+        Assert.assertEquals("Removable, Not Present", environmentStatus.get("Power Modules#Power supply 2, PS-2"));
+    }
+
+    @Test
+    public void collectPoeStatus() throws Exception {
+        Map<String, String> poeStatus = collector.collectPoeStatus();
+
+        Assert.assertEquals("ON", poeStatus.get("PSE Main Operational Status"));
+        Assert.assertEquals("720.0 Watts", poeStatus.get("Total Power Available"));
+        Assert.assertEquals("648.0 Watts", poeStatus.get("Threshold Power"));
+        Assert.assertEquals("35.0 Watts", poeStatus.get("Total Power Consumed"));
+        Assert.assertEquals("90", poeStatus.get("Usage Threshold"));
+        Assert.assertEquals("Enable", poeStatus.get("Traps"));
+    }
+
+    private void addInterface(int index, String name, int operStatus, long inUcast, long inMcast, long inBcast,
+                              long outUcast, long outMcast, long outBcast, long inErrors, long outErrors) {
+        mib.put(new OID(IF_NAME).append(index), new OctetString(name));
+        mib.put(new OID(IF_OPER_STATUS).append(index), new Integer32(operStatus));
+        mib.put(new OID(IF_IN_ERRORS).append(index), new Counter32(inErrors));
+        mib.put(new OID(IF_OUT_ERRORS).append(index), new Counter32(outErrors));
+        mib.put(new OID(IF_HC_IN_UCAST_PKTS).append(index), new Counter64(inUcast));
+        mib.put(new OID(IF_HC_IN_MULTICAST_PKTS).append(index), new Counter64(inMcast));
+        mib.put(new OID(IF_HC_IN_BROADCAST_PKTS).append(index), new Counter64(inBcast));
+        mib.put(new OID(IF_HC_OUT_UCAST_PKTS).append(index), new Counter64(outUcast));
+        mib.put(new OID(IF_HC_OUT_MULTICAST_PKTS).append(index), new Counter64(outMcast));
+        mib.put(new OID(IF_HC_OUT_BROADCAST_PKTS).append(index), new Counter64(outBcast));
+    }
+
+    private void addSensor(int index, String name, int position, int type, int precision, int value, int status) {
+        mib.put(new OID(ENT_PHYSICAL_PARENT_REL_POS).append(index), new Integer32(position));
+        mib.put(new OID(ENT_PHYSICAL_NAME).append(index), new OctetString(name));
+        mib.put(new OID(ENT_PHY_SENSOR_TYPE).append(index), new Integer32(type));
+        mib.put(new OID(ENT_PHY_SENSOR_PRECISION).append(index), new Integer32(precision));
+        mib.put(new OID(ENT_PHY_SENSOR_VALUE).append(index), new Integer32(value));
+        mib.put(new OID(ENT_PHY_SENSOR_OPER_STATUS).append(index), new Integer32(status));
+    }
+
+    /**
+     * Minimal SNMP agent stand-in, answering GETNEXT and GETBULK requests from the {@link #mib} contents
+     */
+    private class MibResponder implements CommandResponder {
+        @Override
+        public <A extends org.snmp4j.smi.Address> void processPdu(CommandResponderEvent<A> event) {
+            PDU request = event.getPDU();
+            if (request == null || (request.getType() != PDU.GETNEXT && request.getType() != PDU.GETBULK)) {
+                return;
+            }
+            PDU response = new PDU();
+            response.setType(PDU.RESPONSE);
+            response.setRequestID(request.getRequestID());
+
+            int nonRepeaters = request.getType() == PDU.GETBULK ? Math.min(request.getNonRepeaters(), request.size()) : request.size();
+            int repetitions = request.getType() == PDU.GETBULK ? Math.max(request.getMaxRepetitions(), 1) : 1;
+            for (int i = 0; i < nonRepeaters; i++) {
+                response.add(next(request.get(i).getOid()));
+            }
+            OID[] repeaters = new OID[request.size() - nonRepeaters];
+            for (int i = 0; i < repeaters.length; i++) {
+                repeaters[i] = request.get(nonRepeaters + i).getOid();
+            }
+            for (int r = 0; r < repetitions && repeaters.length > 0; r++) {
+                for (int i = 0; i < repeaters.length; i++) {
+                    VariableBinding next = next(repeaters[i]);
+                    response.add(next);
+                    repeaters[i] = next.getOid();
+                }
+            }
+
+            event.setProcessed(true);
+            try {
+                event.getMessageDispatcher().returnResponsePdu(event.getMessageProcessingModel(), event.getSecurityModel(),
+                        event.getSecurityName(), event.getSecurityLevel(), response, event.getMaxSizeResponsePDU(),
+                        event.getStateReference(), new StatusInformation());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private VariableBinding next(OID oid) {
+            Map.Entry<OID, Variable> entry = mib.higherEntry(oid);
+            if (entry == null) {
+                return new VariableBinding(oid, Null.endOfMibView);
+            }
+            return new VariableBinding(entry.getKey(), entry.getValue());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.avispl.symphony.dal.communicator.netgear;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+public class NioTelnetSessionTest {
+
+    @Test
+    public void readWithOptionNegotiation() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             NioTelnetSession session = NioTelnetSession.open("127.0.0.1", serverSocket.getLocalPort(), 3000);
+             Socket socket = serverSocket.accept()) {
+            OutputStream out = socket.getOutputStream();
+            out.write(new byte[]{(byte) 255, (byte) 251, 1, (byte) 255, (byte) 253, 24,
+                    (byte) 255, (byte) 250, 24, 1, (byte) 255, (byte) 240, 'U', 's', 'e', 'r', ':'});
+            out.flush();
+
+            Assert.assertEquals("User:", session.read(response -> response.endsWith("User:"), 3000, null));
+            byte[] negotiation = new byte[6];
+            readFully(socket.getInputStream(), negotiation);
+            Assert.assertArrayEquals(new byte[]{(byte) 255, (byte) 253, 1, (byte) 255, (byte) 252, 24}, negotiation);
+
+            session.write("admin\r\n");
+            byte[] line = new byte[7];
+            readFully(socket.getInputStream(), line);
+            Assert.assertEquals("admin\r\n", new String(line, "US-ASCII"));
+        }
+    }
+
+    @Test
+    public void readTimeout() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+             NioTelnetSession session = NioTelnetSession.open("127.0.0.1", serverSocket.getLocalPort(), 3000);
+             Socket socket = serverSocket.accept()) {
+            socket.getOutputStream().write("(M4300) >".getBytes("US-ASCII"));
+            long startTime = System.currentTimeMillis();
+            try {
+                session.read(response -> response.endsWith("#"), 200, "en");
+                Assert.fail("Read is expected to time out");
+            } catch (IOException e) {
+                Assert.assertTrue(e.getMessage().contains("(M4300) >"));
+            }
+            Assert.assertTrue(System.currentTimeMillis() - startTime < 1000);
+        }
+    }
+
+    private static void readFully(InputStream in, byte[] data) throws IOException {
+        int offset = 0;
+        while (offset < data.length) {
+            int count = in.read(data, offset, data.length - offset);
+            if (count < 0) {
+                throw new IOException("Connection closed");
+            }
+            offset += count;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.avispl.symphony.dal.communicator.netgear;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class PerformanceMetricsTest {
+
+    private static final long NOW = TimeUnit.SECONDS.toNanos(1000);
+
+    private final PerformanceMetrics metrics = new PerformanceMetrics(() -> NOW);
+
+    @Test
+    public void recordCommand() {
+        metrics.recordCommand("show poe", NOW - TimeUnit.MILLISECONDS.toNanos(3), 100);
+        metrics.recordCommand("show poe", NOW - TimeUnit.MILLISECONDS.toNanos(4), 300);
+        metrics.recordCommand("show poe", NOW - TimeUnit.MILLISECONDS.toNanos(150), 200);
+        Map<String, String> statistics = metrics.toStatistics("Performance#");
+
+        Assert.assertEquals("3", statistics.get("Performance#Command (show poe) Calls"));
+        Assert.assertEquals("<5", statistics.get("Performance#Command (show poe) p50 Latency (ms)"));
+        Assert.assertEquals("<200", statistics.get("Performance#Command (show poe) p99 Latency (ms)"));
+        Assert.assertEquals("52", statistics.get("Performance#Command (show poe) Avg Latency (ms)"));
+        Assert.assertEquals("200", statistics.get("Performance#Command (show poe) Avg Response Bytes"));
+        Assert.assertNull(statistics.get("Performance#Command (show poe) Avg Pages"));
+    }
+
+    @Test
+    public void recordFetchAndConnections() {
+        metrics.recordFetch("show port status all", NOW - TimeUnit.MILLISECONDS.toNanos(700), 4000, 4);
+        metrics.recordConnect(NOW - TimeUnit.MILLISECONDS.toNanos(20));
+        metrics.recordReconnect();
+        metrics.recordLockWait(TimeUnit.MILLISECONDS.toNanos(40));
+        Map<String, String> statistics = metrics.getMetrics();
+
+        Assert.assertEquals("4", statistics.get("Fetch (show port status all) Avg Pages"));
+        Assert.assertEquals("<1000", statistics.get("Fetch (show port status all) p50 Latency (ms)"));
+        Assert.assertEquals("20", statistics.get("Connect Avg Latency (ms)"));
+        Assert.assertEquals("1", statistics.get("Connections"));
+        Assert.assertEquals("1", statistics.get("Reconnects"));
+        Assert.assertEquals(40, metrics.getLockWaitTime());
+
+        metrics.reset();
+        Assert.assertEquals(0, metrics.getConnections());
+        Assert.assertEquals("0", metrics.getMetrics().get("Lock Wait Calls"));
+        Assert.assertNull(metrics.getMetrics().get("Fetch (show port status all) Calls"));
+    }
+}
@@ -0,0 +1,83 @@
+package com.avispl.symphony.dal.communicator.netgear;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class PortCounterRateTrackerTest {
+
+    private final PortCounterRateTracker tracker = new PortCounterRateTracker();
+
+    @Test
+    public void updateRates() {
+        Map<String, String> rates = update(0, "1000", "2000", "12 day 3 hr 45 min 12 sec");
+        Assert.assertTrue(rates.isEmpty());
+
+        rates = update(10000, "1500", "2001", "12 day 3 hr 45 min 22 sec");
+        Assert.assertEquals("50.00", rates.get("Ports Packets Statistics#Port 1/0/1 Received Rate (pps)"));
+        Assert.assertEquals("0.10", rates.get("Ports Packets Statistics#Port 1/0/1 Transmitted Rate (pps)"));
+        Assert.assertEquals("50.00", rates.get("TotalPacketsStatistics#Received Rate (pps)"));
+    }
+
+    @Test
+    public void updateRatesCounterWrap() {
+        update(0, String.valueOf((1L << 32) - 100), "0", null);
+        Map<String, String> rates = update(2000, "100", "0", null);
+
+        Assert.assertEquals("100.00", rates.get("Ports Packets Statistics#Port 1/0/1 Received Rate (pps)"));
+    }
+
+    @Test
+    public void updateRatesCountersCleared() {
+        update(0, "100000", "100000", "1 day 0 hr 0 min 0 sec");
+        Map<String, String> rates = update(30000, "50", "0", "0 day 0 hr 0 min 5 sec");
+
+        Assert.assertEquals("10.00", rates.get("Ports Packets Statistics#Port 1/0/1 Received Rate (pps)"));
+        Assert.assertEquals("0.00", rates.get("Ports Packets Statistics#Port 1/0/1 Transmitted Rate (pps)"));
+    }
+
+    @Test
+    public void updateRatesPortCountersCleared() {
+        update(0, "100000", "100000", "1 day 0 hr 0 min 0 sec");
+        Map<String, String> rates = update(10000, "50", "100100", "1 day 0 hr 0 min 10 sec");
+
+        Assert.assertEquals("5.00", rates.get("Ports Packets Statistics#Port 1/0/1 Received Rate (pps)"));
+        Assert.assertEquals("10.00", rates.get("Ports Packets Statistics#Port 1/0/1 Transmitted Rate (pps)"));
+    }
+
+    @Test
+    public void updateRates64BitCountersReset() {
+        update(0, "1000", "1000", null, PortCounterRateTracker.COUNTER_64_BITS);
+        Map<String, String> rates = update(10000, "200", "1100", null, PortCounterRateTracker.COUNTER_64_BITS);
+
+        Assert.assertEquals("20.00", rates.get("Ports Packets Statistics#Port 1/0/1 Received Rate (pps)"));
+        Assert.assertEquals("10.00", rates.get("Ports Packets Statistics#Port 1/0/1 Transmitted Rate (pps)"));
+        Assert.assertEquals("20.00", rates.get("TotalPacketsStatistics#Received Rate (pps)"));
+    }
+
+    @Test
+    public void parseDuration() {
+        Assert.assertEquals(1050312, PortCounterRateTracker.parseDuration("12 day 3 hr 45 min 12 sec"));
+        Assert.assertEquals(-1, PortCounterRateTracker.parseDuration("unknown"));
+        Assert.assertEquals(-1, PortCounterRateTracker.parseDuration(null));
+    }
+
+    private Map<String, String> update(long timestamp, String received, String transmitted, String countersCleared) {
+        return update(timestamp, received, transmitted, countersCleared, PortCounterRateTracker.COUNTER_32_BITS);
+    }
+
+    private Map<String, String> update(long timestamp, String received, String transmitted, String countersCleared, int counterWidth) {
+        Map<String, String> ports = new HashMap<>();
+        ports.put("Ports Packets Statistics#Port 1/0/1 Received", received);
+        ports.put("Ports Packets Statistics#Port 1/0/1 Transmitted", transmitted);
+        ports.put("Ports Packets Statistics#Port lag 1 Received", received);
+        Map<String, String> packetsData = new HashMap<>();
+        packetsData.put(PortCounterRateTracker.TOTAL_RECEIVED, received);
+        packetsData.put(PortCounterRateTracker.COUNTERS_CLEARED, countersCleared);
+        Map<String, String> rates = new HashMap<>();
+        tracker.update(ports, packetsData, counterWidth, timestamp, rates);
+        return rates;
+    }
+}
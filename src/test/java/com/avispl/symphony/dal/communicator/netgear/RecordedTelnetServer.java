@@ -0,0 +1,406 @@
+package com.avispl.symphony.dal.communicator.netgear;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local telnet stand-in for a NetGear M4300 switch, replaying recorded CLI outputs.
+ * Emulates the login sequence, "enable" password prompt, config/interface modes, "--More--" pagination
+ * (unless "terminal length 0" is sent) and a configurable per-command latency.
+ * The response to every input line (echo, output and prompt) is written at once.
+ * Optionally the session starts with the telnet option negotiation, as the switch does.
+ * Confirmed "reload" drops all the sessions, and the connections are closed right away until the reload is over.
+ */
+class RecordedTelnetServer implements AutoCloseable {
+
+    private static final int IAC = 255;
+    private static final int WILL = 251;
+    private static final int DO = 253;
+    private static final int SB = 250;
+    private static final int SE = 240;
+    private static final String PAGINATION_PROMPT = "--More-- or (q)uit";
+    private static final String INVALID_INPUT = "% Invalid input detected at '^' marker.";
+
+    private final ServerSocket serverSocket;
+    private final Map<String, String> transcripts;
+    private final String hostname;
+    private final String login;
+    private final String password;
+    private final Map<String, Long> commandLatency = new ConcurrentHashMap<>();
+    private final Set<String> droppingCommands = ConcurrentHashMap.newKeySet();
+    private final List<String> receivedCommands = new CopyOnWriteArrayList<>();
+    private final List<Socket> sockets = new CopyOnWriteArrayList<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final AtomicInteger maxActiveSessions = new AtomicInteger();
+    private volatile int pageSize = 20;
+    private volatile long defaultLatency;
+    private volatile boolean paginationControlSupported = true;
+    private volatile boolean interfaceRangeSupported = true;
+    private volatile boolean optionNegotiation;
+    private volatile long reloadDuration;
+    private volatile long reloadEndTime;
+
+    RecordedTelnetServer(Map<String, String> transcripts, String hostname, String login, String password) throws IOException {
+        this.transcripts = new ConcurrentHashMap<>(transcripts);
+        this.hostname = hostname;
+        this.login = login;
+        this.password = password;
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptThread = new Thread(this::accept, "recorded-telnet-server-" + getPort());
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    void setTranscript(String command, String output) {
+        transcripts.put(command, output);
+    }
+
+    /**
+     * @param command command the switch has to reject, as the models without the respective feature do
+     */
+    void removeTranscript(String command) {
+        transcripts.remove(command);
+    }
+
+    void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    void setDefaultLatency(long defaultLatency) {
+        this.defaultLatency = defaultLatency;
+    }
+
+    void setCommandLatency(String command, long latency) {
+        commandLatency.put(command, latency);
+    }
+
+    /**
+     * @param command command, the first receipt of which drops the session without a response
+     */
+    void dropSessionOnCommand(String command) {
+        droppingCommands.add(command);
+    }
+
+    void setPaginationControlSupported(boolean paginationControlSupported) {
+        this.paginationControlSupported = paginationControlSupported;
+    }
+
+    void setInterfaceRangeSupported(boolean interfaceRangeSupported) {
+        this.interfaceRangeSupported = interfaceRangeSupported;
+    }
+
+    /**
+     * @param optionNegotiation whether the session starts with IAC WILL ECHO, IAC WILL SUPPRESS-GO-AHEAD and
+     * IAC DO TERMINAL-TYPE sequences
+     */
+    void setOptionNegotiation(boolean optionNegotiation) {
+        this.optionNegotiation = optionNegotiation;
+    }
+
+    /**
+     * @param reloadDuration period (ms) after the confirmed reload, during which the CLI is not available
+     */
+    void setReloadDuration(long reloadDuration) {
+        this.reloadDuration = reloadDuration;
+    }
+
+    /**
+     * @return all the input lines received by the server, in order
+     */
+    List<String> getReceivedCommands() {
+        return new ArrayList<>(receivedCommands);
+    }
+
+    /**
+     * @return number of telnet connections accepted
+     */
+    int getConnections() {
+        return connections.get();
+    }
+
+    /**
+     * @return max number of the telnet sessions open simultaneously
+     */
+    int getMaxActiveSessions() {
+        return maxActiveSessions.get();
+    }
+
+    /**
+     * Drops all the open telnet sessions, as the switch would do on reload or idle timeout
+     */
+    void dropSessions() throws IOException {
+        for (Socket socket : sockets) {
+            socket.close();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        dropSessions();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                if (System.currentTimeMillis() < reloadEndTime) {
+                    socket.close();
+                    continue;
+                }
+                connections.incrementAndGet();
+                sockets.add(socket);
+                Thread sessionThread = new Thread(() -> serve(socket), "recorded-telnet-session-" + connections.get());
+                sessionThread.setDaemon(true);
+                sessionThread.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        maxActiveSessions.accumulateAndGet(activeSessions.incrementAndGet(), Math::max);
+        try (Socket s = socket; InputStream in = s.getInputStream(); OutputStream out = s.getOutputStream()) {
+            new Session(in, out).run();
+        } catch (IOException e) {
+            // session closed by the client or dropped by the server
+        } finally {
+            activeSessions.decrementAndGet();
+            sockets.remove(socket);
+        }
+    }
+
+    /**
+     * Single CLI session state
+     */
+    private class Session {
+        private final InputStream in;
+        private final OutputStream out;
+        private CliMode mode = CliMode.USER;
+        private String interfaceName;
+        private boolean paginationDisabled;
+        private boolean reloadRequested;
+        private List<String> pendingPages = Collections.emptyList();
+
+        Session(InputStream in, OutputStream out) {
+            this.in = in;
+            this.out = out;
+        }
+
+        void run() throws IOException {
+            if (optionNegotiation) {
+                out.write(new byte[]{(byte) IAC, (byte) WILL, 1, (byte) IAC, (byte) WILL, 3, (byte) IAC, (byte) DO, 24});
+            }
+            write("\r\nUser:");
+            String user = readLine();
+            write(user + "\r\nPassword:");
+            String userPassword = readLine();
+            if (!login.equals(user) || !password.equals(userPassword)) {
+                write("\r\nLogin failed\r\n");
+                return;
+            }
+            write("\r\n\r\n" + prompt());
+
+            String line;
+            while ((line = readLine()) != null) {
+                receivedCommands.add(line);
+                if (droppingCommands.remove(line)) {
+                    return;
+                }
+                sleep(commandLatency.getOrDefault(line, defaultLatency));
+                write(process(line));
+            }
+        }
+
+        private String process(String line) throws IOException {
+            if (reloadRequested) {
+                reloadRequested = false;
+                if ("y".equals(line)) {
+                    reloadEndTime = System.currentTimeMillis() + reloadDuration;
+                    dropSessions();
+                    return "";
+                }
+                return "\r\n" + prompt();
+            }
+            if (!pendingPages.isEmpty()) {
+                if ("q".equals(line)) {
+                    pendingPages = Collections.emptyList();
+                    return "\r\n" + prompt();
+                }
+                return nextPage();
+            }
+
+            String command = line.trim();
+            String echo = line + "\r\n";
+            if (command.isEmpty()) {
+                return echo + prompt();
+            }
+            if (command.equals("en") || command.equals("enable")) {
+                if (mode != CliMode.USER) {
+                    return echo + prompt();
+                }
+                write(echo + "Password:");
+                String enablePassword = readLine();
+                if (password.equals(enablePassword)) {
+                    mode = CliMode.PRIVILEGED;
+                }
+                return "\r\n" + prompt();
+            }
+            if (mode == CliMode.USER) {
+                return echo + INVALID_INPUT + "\r\n\r\n" + prompt();
+            }
+            if (command.equals("terminal length 0") && paginationControlSupported) {
+                paginationDisabled = true;
+                return echo + "\r\n" + prompt();
+            }
+            if (command.equals("config") || command.equals("configure")) {
+                mode = CliMode.CONFIG;
+                return echo + "\r\n" + prompt();
+            }
+            if (command.startsWith("interface ") && mode != CliMode.PRIVILEGED && isKnownInterface(command.substring("interface ".length()))) {
+                mode = CliMode.INTERFACE;
+                interfaceName = command.substring("interface ".length());
+                return echo + "\r\n" + prompt();
+            }
+            if (command.equals("exit")) {
+                mode = mode == CliMode.INTERFACE ? CliMode.CONFIG : CliMode.PRIVILEGED;
+                return echo + "\r\n" + prompt();
+            }
+            if ((command.equals("shutdown") || command.equals("no shutdown")) && mode == CliMode.INTERFACE) {
+                return echo + "\r\n" + prompt();
+            }
+            if (command.equals("reload")) {
+                reloadRequested = true;
+                return echo + "Are you sure you want to reload the stack? (y/n) ";
+            }
+            String output = transcripts.get(command);
+            if (output == null || mode != CliMode.PRIVILEGED) {
+                return echo + INVALID_INPUT + "\r\n\r\n" + prompt();
+            }
+            if (paginationDisabled) {
+                return echo + output + "\r\n\r\n" + prompt();
+            }
+            String[] lines = output.split("\r\n");
+            List<String> pages = new ArrayList<>();
+            for (int i = 0; i < lines.length; i += pageSize) {
+                pages.add(String.join("\r\n", java.util.Arrays.asList(lines).subList(i, Math.min(lines.length, i + pageSize))));
+            }
+            pendingPages = pages;
+            return echo + nextPage();
+        }
+
+        /**
+         * Checks whether the interface or the interface range consists of the ports listed by "show port status"
+         */
+        private boolean isKnownInterface(String name) {
+            String[] range = name.split("-");
+            if (range.length > 1 && !interfaceRangeSupported) {
+                return false;
+            }
+            String ports = transcripts.getOrDefault("show port status all | exclude lag", "");
+            for (String port : range) {
+                if (!ports.contains("\r\n" + port + " ")) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private String nextPage() {
+            String page = pendingPages.get(0);
+            pendingPages = pendingPages.subList(1, pendingPages.size());
+            if (pendingPages.isEmpty()) {
+                return page + "\r\n\r\n" + prompt();
+            }
+            return page + "\r\n" + PAGINATION_PROMPT;
+        }
+
+        private String prompt() {
+            switch (mode) {
+                case USER:
+                    return "(" + hostname + ") >";
+                case CONFIG:
+                    return "(" + hostname + ") (Config)#";
+                case INTERFACE:
+                    return "(" + hostname + ") (Interface " + interfaceName + ")#";
+                default:
+                    return "(" + hostname + ") #";
+            }
+        }
+
+        /**
+         * Reads an input line, skipping telnet IAC negotiation sequences
+         *
+         * @return line without the line separator, or null if the connection is closed
+         */
+        private String readLine() throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) >= 0) {
+                if (b == IAC) {
+                    int command = in.read();
+                    if (command == SB) {
+                        int previous = 0;
+                        while ((b = in.read()) >= 0 && !(previous == IAC && b == SE)) {
+                            previous = b;
+                        }
+                    } else if (command != IAC) {
+                        in.read();
+                    }
+                    continue;
+                }
+                if (b == '\r') {
+                    continue;
+                }
+                if (b == '\n') {
+                    return new String(line.toByteArray(), StandardCharsets.US_ASCII);
+                }
+                if (b != 0) {
+                    line.write(b);
+                }
+            }
+            return null;
+        }
+
+        private void write(String data) throws IOException {
+            try {
+                out.write(data.getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+            } catch (SocketException e) {
+                throw new IOException(e);
+            }
+        }
+
+        private void sleep(long latency) {
+            if (latency <= 0) {
+                return;
+            }
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
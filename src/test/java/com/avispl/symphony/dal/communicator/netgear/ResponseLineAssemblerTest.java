@@ -0,0 +1,47 @@
+package com.avispl.symphony.dal.communicator.netgear;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ResponseLineAssemblerTest {
+
+    private static final String PAGINATION_PROMPT = "--More-- or (q)uit";
+
+    @Test
+    public void appendPages() {
+        List<String> lines = new ArrayList<>();
+        ResponseLineAssembler assembler = new ResponseLineAssembler(PAGINATION_PROMPT,
+                (text, lineStart, lineEnd) -> lines.add(text.substring(lineStart, lineEnd)));
+        assembler.append("show port\r\nline 1\r\nline 2\r\n" + PAGINATION_PROMPT);
+        assembler.append("line 3\r\nline");
+        assembler.append(" 4 continued\r\n(M4300) #");
+        assembler.finish();
+
+        Assert.assertEquals(6, lines.size());
+        Assert.assertEquals("line 2", lines.get(2));
+        Assert.assertEquals("line 3", lines.get(3));
+        Assert.assertEquals("line 4 continued", lines.get(4));
+        Assert.assertEquals("(M4300) #", lines.get(5));
+    }
+
+    @Test
+    public void appendPagesMatchesCompleteResponse() {
+        String response = TelnetTranscripts.load(TelnetTranscripts.M4300_28G_POE).get("show interface ethernet all | exclude lag");
+        Map<String, String> expected = new HashMap<>();
+        NetGearResponseParser.parsePortStatistics(response, expected);
+
+        Map<String, String> ports = new HashMap<>();
+        ResponseLineAssembler assembler = new ResponseLineAssembler(PAGINATION_PROMPT, NetGearResponseParser.portStatisticsParser(ports));
+        for (int pageStart = 0; pageStart < response.length(); pageStart += 37) {
+            assembler.append(response.substring(pageStart, Math.min(response.length(), pageStart + 37)));
+        }
+        assembler.finish();
+
+        Assert.assertEquals(expected, ports);
+    }
+}
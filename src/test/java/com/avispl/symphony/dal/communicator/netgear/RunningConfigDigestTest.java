@@ -0,0 +1,43 @@
+package com.avispl.symphony.dal.communicator.netgear;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+public class RunningConfigDigestTest {
+
+    private static final String CONFIG = "!Current Configuration:\r\n"
+            + "!System Up Time          \"0 days 4 hrs 12 mins 31 secs\"\r\n"
+            + "!\r\n"
+            + "configure\r\n"
+            + "interface 1/0/3\r\n"
+            + "shutdown\r\n"
+            + "exit\r\n";
+
+    @Test
+    public void digestSkipsComments() {
+        String digest = digest(CONFIG);
+        Assert.assertEquals(64, digest.length());
+        Assert.assertEquals(digest, digest(CONFIG.replace("4 hrs 12 mins 31 secs", "4 hrs 13 mins 1 secs")));
+        Assert.assertNotEquals(digest, digest(CONFIG.replace("shutdown", "no shutdown")));
+    }
+
+    @Test
+    public void digestOfEmptyConfig() {
+        Assert.assertNull(digest("!Current Configuration:\r\n!\r\n"));
+    }
+
+    @Test
+    public void digestAfterReset() {
+        RunningConfigDigest runningConfigDigest = new RunningConfigDigest();
+        NetGearResponseParser.parseLines("configure\r\ninterface 1/0/3\r\n", runningConfigDigest);
+        runningConfigDigest.reset();
+        NetGearResponseParser.parseLines(CONFIG, runningConfigDigest);
+        Assert.assertEquals(digest(CONFIG), runningConfigDigest.getDigest());
+    }
+
+    private static String digest(String config) {
+        RunningConfigDigest runningConfigDigest = new RunningConfigDigest();
+        NetGearResponseParser.parseLines(config, runningConfigDigest);
+        return runningConfigDigest.getDigest();
+    }
+}
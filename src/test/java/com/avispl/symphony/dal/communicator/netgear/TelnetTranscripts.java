@@ -0,0 +1,104 @@
+package com.avispl.symphony.dal.communicator.netgear;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Recorded M4300 CLI outputs, stored under src/test/resources/transcripts/{device}. Every file contains a single
+ * command output, with the command itself on the first line.
+ */
+final class TelnetTranscripts {
+
+    static final String M4300_28G_POE = "m4300-28g-poe";
+    static final String M4300_PROMPT = "(M4300-28G-PoE+) #";
+
+    private TelnetTranscripts() {
+    }
+
+    /**
+     * Loads all the transcripts of a device
+     *
+     * @param device transcripts directory name
+     * @return map of command:output values, output lines are separated with "\r\n" as sent by the switch
+     */
+    static Map<String, String> load(String device) {
+        URL directory = TelnetTranscripts.class.getResource("/transcripts/" + device);
+        if (directory == null) {
+            throw new IllegalArgumentException("No transcripts found for " + device);
+        }
+        try (Stream<Path> files = Files.list(Paths.get(directory.toURI()))) {
+            Map<String, String> transcripts = new LinkedHashMap<>();
+            for (Path file : files.sorted().collect(Collectors.toList())) {
+                List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+                transcripts.put(lines.get(0), String.join("\r\n", lines.subList(1, lines.size())));
+            }
+            return transcripts;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Emulates a stack of several units, by replicating the unit 1 rows of the port and environment tables for
+     * units 2 to {@code stackSize}
+     *
+     * @param transcripts single unit transcripts
+     * @param stackSize number of units in the stack
+     * @return map of command:output values
+     */
+    static Map<String, String> stack(Map<String, String> transcripts, int stackSize) {
+        Map<String, String> stackTranscripts = new LinkedHashMap<>();
+        for (Map.Entry<String, String> transcript : transcripts.entrySet()) {
+            List<String> lines = new ArrayList<>();
+            List<String> unitLines = new ArrayList<>();
+            for (String line : transcript.getValue().split("\r\n", -1)) {
+                if (line.startsWith("1/0/") || line.matches("^1 .*")) {
+                    unitLines.add(line);
+                    continue;
+                }
+                replicate(lines, unitLines, stackSize);
+                lines.add(line);
+            }
+            replicate(lines, unitLines, stackSize);
+            stackTranscripts.put(transcript.getKey(), String.join("\r\n", lines));
+        }
+        return stackTranscripts;
+    }
+
+    /**
+     * Adds unit 1 rows followed by the copies of these rows for other units, then clears the unit rows
+     */
+    private static void replicate(List<String> lines, List<String> unitLines, int stackSize) {
+        for (int unit = 1; unit <= stackSize; unit++) {
+            for (String unitLine : unitLines) {
+                lines.add(unit + unitLine.substring(1));
+            }
+        }
+        unitLines.clear();
+    }
+
+    /**
+     * Creates telnet response, the way it is received by the communicator: command echo, output and the prompt
+     *
+     * @param command command sent
+     * @param output command output
+     * @return telnet response
+     */
+    static String response(String command, String output) {
+        return command + "\r\n" + output + "\r\n\r\n" + M4300_PROMPT;
+    }
+}